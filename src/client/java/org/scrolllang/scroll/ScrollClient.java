@@ -2,11 +2,13 @@ package org.scrolllang.scroll;
 
 import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.elements.ClientTypes;
+import org.scrolllang.scroll.language.ScrollEvent;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.kyori.adventure.platform.modcommon.MinecraftClientAudiences;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
@@ -22,11 +24,11 @@ public class ScrollClient implements ClientModInitializer {
 		ClientLifecycleEvents.CLIENT_STARTED.register(client -> {
 			CLIENT = client;
 		});
+		ClientTickEvents.END_CLIENT_TICK.register(client -> ScrollEvent.endTick());
 		ADVENTURE = MinecraftClientAudiences.of();
 		Scroll.setAdventure(ADVENTURE);
 
-		ClientTypes.register(Scroll.getRegistration());
-		Scroll.register();
+		Scroll.registerAsync(() -> ClientTypes.register(Scroll.getRegistration()));
 	}
 
 	/**
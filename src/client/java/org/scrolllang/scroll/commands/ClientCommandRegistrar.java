@@ -1,21 +1,16 @@
 package org.scrolllang.scroll.commands;
 
-import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.argument;
-import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
-
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.commands.ScriptCommand.ScrollCommandContext;
-import org.scrolllang.scroll.commands.arguments.CommandParameter;
 import org.scrolllang.scroll.language.Languaged;
 
-import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.tree.RootCommandNode;
 
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
-import net.minecraft.command.argument.TextArgumentType;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.PlayerManager;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
@@ -41,27 +36,25 @@ public class ClientCommandRegistrar implements CommandRegistrar<FabricClientComm
 			com.mojang.brigadier.Command<FabricClientCommandSource> execute = new com.mojang.brigadier.Command<>() {
 				@Override
 				public int run(CommandContext<FabricClientCommandSource> context) throws CommandSyntaxException {
-					ScrollCommandContext<FabricClientCommandSource> commandContext = new ScriptCommand.ScrollCommandContext<FabricClientCommandSource>(context, registrar);
+					ScrollCommandContext<FabricClientCommandSource> commandContext = new ScriptCommand.ScrollCommandContext<FabricClientCommandSource>(context, registrar, command);
 					command.fill(commandContext);
 					// We still want to call the command context even if the command will be cancelled represented by a negative number. ScriptCommand handles not calling the trigger.
-					ScriptCommand.runTriggers(ScriptCommand.getTriggersList(), commandContext);
+					ScriptCommand.runTrigger(command.getTrigger(), commandContext);
 					return commandContext.getReturnCode();
 				}
 			};
-			LiteralArgumentBuilder<FabricClientCommandSource> mainNode = literal(command.getName());
-			if (!command.getParameters().isEmpty()) {
-				for (CommandParameter<?> argument : command.getParameters()) {
-					mainNode.then(argument(argument.getIdentifier(), TextArgumentType.text(registryAccess)));
-				}
-			}
-			dispatcher.register(mainNode.executes(execute));
+			register(dispatcher, command, registryAccess, execute);
 		});
 	}
 
 	@Override
 	public void unregister(Command command) {
-		remover.removeCommand(command, root);
-		PlayerManager playerManager = Scroll.getMinecraftServer().getPlayerManager();
+		if (root != null)
+			remover.removeCommand(command, root);
+		MinecraftServer server = Scroll.getMinecraftServer();
+		if (server == null) // Not started yet or already stopped, there are no players to update.
+			return;
+		PlayerManager playerManager = server.getPlayerManager();
 		for (ServerPlayerEntity player : playerManager.getPlayerList())
 			playerManager.sendCommandTree(player);
 	}
@@ -76,6 +76,83 @@ public class Configuration implements Reloadable {
 		return toml.getTable("scroll");
 	}
 
+	/**
+	 * @return The amount of scripts that can be parsed at the same time. 0 or lower uses the available processors minus one.
+	 */
+	public int getParseParallelism() {
+		return (int) toml.getLong("scroll.loading.parallelism", () -> 0L);
+	}
+
+	/**
+	 * @return The time in seconds a script may take to parse before it gets cancelled. 0 or lower disables the timeout.
+	 */
+	public long getParseTimeout() {
+		return toml.getLong("scroll.loading.timeout", () -> 300L);
+	}
+
+	/**
+	 * @return true if scripts should be reloaded when their files change in the scripts folder.
+	 */
+	public boolean isWatchingScripts() {
+		return toml.getBoolean("scroll.loading.watch-scripts", () -> false);
+	}
+
+	/**
+	 * @return The time in milliseconds the script watcher waits after the last file change before reloading.
+	 */
+	public long getWatchDebounce() {
+		return toml.getLong("scroll.loading.watch-debounce", () -> 500L);
+	}
+
+	/**
+	 * @return true if players should wait at login until all scripts are loaded.
+	 */
+	public boolean isHoldingLogins() {
+		return toml.getBoolean("scroll.loading.hold-logins", () -> false);
+	}
+
+	/**
+	 * @return true if the watchdog should measure triggers and throttle or disable the slow ones.
+	 */
+	public boolean isWatchdogEnabled() {
+		return toml.getBoolean("scroll.watchdog.enabled", () -> true);
+	}
+
+	/**
+	 * @return The time in milliseconds a single trigger may take before it gets a strike.
+	 */
+	public long getTriggerBudget() {
+		return toml.getLong("scroll.watchdog.trigger-budget", () -> 20L);
+	}
+
+	/**
+	 * @return The time in milliseconds all triggers together may take within one tick.
+	 */
+	public long getTickBudget() {
+		return toml.getLong("scroll.watchdog.tick-budget", () -> 25L);
+	}
+
+	/**
+	 * @return The amount of strikes after which a trigger is disabled. 0 or lower never disables triggers.
+	 */
+	public int getWatchdogStrikes() {
+		return (int) toml.getLong("scroll.watchdog.strikes", () -> 3L);
+	}
+
+	/**
+	 * @return The time in seconds after which the strikes of a trigger are forgiven.
+	 */
+	public long getStrikeWindow() {
+		return toml.getLong("scroll.watchdog.strike-window", () -> 60L);
+	}
+
+	/**
+	 * @return The time in milliseconds scheduled tasks, like waits and periodical events, may take per tick.
+	 */
+	public long getSchedulerBudget() {
+		return toml.getLong("scroll.scheduler.tick-budget", () -> 10L);
+	}
+
 	/**
 	 * @return true if scroll is in debug mode.
 	 */
@@ -0,0 +1,281 @@
+package org.scrolllang.scroll;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The executor Scroll parses scripts on.
+ * <p>
+ * Scroll owns these threads so that parsing many scripts does not occupy the shared
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} that other mods rely on.
+ * Tasks that run longer than the timeout are cancelled and their thread is interrupted.
+ */
+public class ParseExecutor {
+
+	private final LongAccumulator maxQueueTime = new LongAccumulator(Math::max, 0);
+	private final LongAdder queueTime = new LongAdder();
+	private final LongAdder parseTime = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+
+	private final ScheduledExecutorService timeouts;
+	private final ThreadPoolExecutor executor;
+	private final int parallelism;
+	private final long timeout;
+
+	/**
+	 * @param parallelism The amount of scripts that can be parsed at the same time. 0 or lower will use the available processors minus one.
+	 * @param timeout The time in seconds a script may take to parse before it gets cancelled.
+	 */
+	ParseExecutor(int parallelism, long timeout) {
+		if (parallelism <= 0)
+			parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		this.parallelism = parallelism;
+		this.timeout = timeout;
+		AtomicInteger count = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new ParserThread(this, runnable, "Scroll Parser #" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		// Idle parser threads are not kept around once loading is done.
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timeouts = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Scroll Parser Timeout");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Queues a parse task.
+	 *
+	 * @param <T> The result of the task.
+	 * @param name The name of the task, typically the script file name.
+	 * @param callable The task to execute.
+	 * @return The queued {@link ParseTask}.
+	 */
+	@NotNull
+	public <T> ParseTask<T> submit(String name, Callable<T> callable) {
+		ParseTask<T> task = new ParseTask<>(name, callable);
+		executor.execute(task);
+		return task;
+	}
+
+	/**
+	 * @return true if the current thread is a parser thread of this executor.
+	 * Parse tasks must not wait on other parse tasks, they should run the work directly instead.
+	 */
+	public boolean isParserThread() {
+		return Thread.currentThread() instanceof ParserThread thread && thread.owner == this;
+	}
+
+	/**
+	 * @return The amount of scripts that can be parsed at the same time.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return The amount of tasks waiting for a parser thread.
+	 */
+	public int getQueuedTasks() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * @return The amount of tasks currently being parsed.
+	 */
+	public int getActiveTasks() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * @return The amount of tasks that finished, including cancelled tasks.
+	 */
+	public long getCompletedTasks() {
+		return completed.sum();
+	}
+
+	/**
+	 * @return The amount of tasks that were cancelled because they took longer than the timeout.
+	 */
+	public long getTimedOutTasks() {
+		return timedOut.sum();
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The average time tasks waited in the queue before a parser thread picked them up.
+	 */
+	public long getAverageQueueTime(TimeUnit unit) {
+		long completed = this.completed.sum();
+		return completed == 0 ? 0 : unit.convert(queueTime.sum() / completed, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The longest time a task waited in the queue before a parser thread picked it up.
+	 */
+	public long getMaxQueueTime(TimeUnit unit) {
+		return unit.convert(maxQueueTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The total time spent executing tasks.
+	 */
+	public long getTotalParseTime(TimeUnit unit) {
+		return unit.convert(parseTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	private static class ParserThread extends Thread {
+
+		private final ParseExecutor owner;
+
+		ParserThread(ParseExecutor owner, Runnable runnable, String name) {
+			super(runnable, name);
+			this.owner = owner;
+		}
+
+	}
+
+	/**
+	 * A task queued in the {@link ParseExecutor}, with the times it spent queued and running.
+	 *
+	 * @param <T> The result of the task.
+	 */
+	public class ParseTask<T> extends FutureTask<T> {
+
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+		private final long queued = System.nanoTime();
+		private final String name;
+
+		private volatile long started, finished;
+		private volatile boolean expired;
+
+		private ParseTask(String name, Callable<T> callable) {
+			super(callable);
+			this.name = name;
+		}
+
+		@Override
+		public void run() {
+			started = System.nanoTime();
+			long waited = started - queued;
+			queueTime.add(waited);
+			maxQueueTime.accumulate(waited);
+			ScheduledFuture<?> expiry = null;
+			if (timeout > 0) {
+				expiry = timeouts.schedule(() -> {
+					if (!isDone()) {
+						// Set before cancelling, run() reads it as soon as the interrupted task returns.
+						expired = true;
+						if (!cancel(true))
+							expired = false; // Completed in the meantime.
+					}
+				}, timeout, TimeUnit.SECONDS);
+			}
+			try {
+				super.run();
+			} finally {
+				if (expiry != null)
+					expiry.cancel(false);
+				finished = System.nanoTime();
+				parseTime.add(finished - started);
+				completed.increment();
+				if (isTimedOut())
+					timedOut.increment();
+				complete();
+			}
+		}
+
+		@Override
+		protected void done() {
+			// Parsing does not check for interrupts, a cancelled task may keep running until it returns on its own.
+			// Waiting for that would hold up everything that waits on the future, so cancelled tasks complete right away.
+			// Tasks that ran to the end complete their future in run(), once their timings are recorded.
+			if (started == 0 || isCancelled())
+				complete();
+		}
+
+		private void complete() {
+			if (isCancelled()) {
+				future.completeExceptionally(new CancellationException());
+				return;
+			}
+			try {
+				future.complete(get());
+			} catch (ExecutionException exception) {
+				future.completeExceptionally(exception.getCause());
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * The returned future completes once this task is done, on the thread that finished it.
+		 * It completes exceptionally with a {@link CancellationException} as soon as the task is cancelled or times out,
+		 * even if the parse is still running, or with the exception the task threw.
+		 * 
+		 * @return A {@link CompletableFuture} of the result of this task.
+		 */
+		public CompletableFuture<T> getFuture() {
+			return future;
+		}
+
+		/**
+		 * @return The name of this task, typically the script file name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return true if this task was cancelled because it took longer than the timeout.
+		 */
+		public boolean isTimedOut() {
+			return expired && isCancelled();
+		}
+
+		/**
+		 * @param unit The time unit to return.
+		 * @return The time this task waited for a parser thread. Null if it has not started yet.
+		 */
+		@Nullable
+		public Long getQueueTime(TimeUnit unit) {
+			if (started == 0)
+				return null;
+			return unit.convert(started - queued, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @param unit The time unit to return.
+		 * @return The time this task was running for. Null if it has not finished yet.
+		 */
+		@Nullable
+		public Long getParseTime(TimeUnit unit) {
+			if (finished == 0)
+				return null;
+			return unit.convert(finished - started, TimeUnit.NANOSECONDS);
+		}
+
+	}
+
+}
@@ -0,0 +1,228 @@
+package org.scrolllang.scroll;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.script.Script;
+
+/**
+ * Watches the scripts folder and reloads scripts when their files change.
+ * <p>
+ * File events are coalesced per path and only handled once no new events arrived for the debounce time.
+ * That way an editor saving a file several times, or a deploy tool writing many files at once,
+ * results in a single reload pass of the latest state.
+ */
+public class ScriptWatcher implements Closeable {
+
+	private enum Change {
+		CHANGED, DELETED
+	}
+
+	private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+	private final Map<Path, Change> pending = new LinkedHashMap<>();
+	private final ScheduledExecutorService reloader;
+	private final WatchService watchService;
+	private final Path scriptsFolder;
+	private final Thread thread;
+	private final long debounce;
+
+	@Nullable
+	private ScheduledFuture<?> flush;
+	private volatile boolean rescan;
+
+	/**
+	 * @param scriptsFolder The scripts folder to watch. See {@link ScrollLoader#getScriptsFolder()}
+	 * @param debounce The time in milliseconds to wait after the last file event before reloading.
+	 * @throws IOException if the watch service could not be created.
+	 */
+	ScriptWatcher(Path scriptsFolder, long debounce) throws IOException {
+		this.watchService = scriptsFolder.getFileSystem().newWatchService();
+		this.scriptsFolder = scriptsFolder;
+		this.debounce = Math.max(0, debounce);
+		this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Scroll Script Reloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.thread = new Thread(this::watch, "Scroll Script Watcher");
+		this.thread.setDaemon(true);
+	}
+
+	/**
+	 * Starts watching the scripts folder and its direct sub directories.
+	 * The same directories that {@link ScrollLoader#collectScriptsAt(Path)} collects from.
+	 *
+	 * @throws IOException if the scripts folder could not be registered.
+	 */
+	void start() throws IOException {
+		register(scriptsFolder);
+		try (Stream<Path> paths = Files.list(scriptsFolder)) {
+			for (Path path : paths.filter(Files::isDirectory).toList())
+				register(path);
+		}
+		thread.start();
+	}
+
+	private void register(Path directory) throws IOException {
+		directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+	}
+
+	private void watch() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException exception) {
+				return;
+			}
+			Path directory = directories.get(key);
+			if (directory != null) {
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == OVERFLOW) {
+						// Events were lost, so the whole folder needs to be compared again.
+						rescan();
+						continue;
+					}
+					Path path = directory.resolve((Path) event.context());
+					if (event.kind() == ENTRY_CREATE && Files.isDirectory(path) && directory.equals(scriptsFolder)) {
+						try {
+							register(path);
+							try (Stream<Path> paths = Files.list(path)) {
+								paths.forEach(child -> queue(child, Change.CHANGED));
+							}
+						} catch (IOException exception) {
+							Scroll.LOGGER.error(Scroll.languageFormat("files.read.directory", path.getFileName()));
+						}
+						continue;
+					}
+					if (event.kind() == ENTRY_DELETE)
+						forget(path);
+					queue(path, event.kind() == ENTRY_DELETE ? Change.DELETED : Change.CHANGED);
+				}
+			}
+			if (!key.reset())
+				directories.remove(key);
+		}
+	}
+
+	/**
+	 * Stops watching a directory that was deleted or renamed. A renamed directory keeps its watch key,
+	 * so it has to be cancelled or events would resolve against the old path.
+	 */
+	private void forget(Path directory) {
+		directories.entrySet().removeIf(entry -> {
+			if (!entry.getValue().equals(directory))
+				return false;
+			entry.getKey().cancel();
+			return true;
+		});
+	}
+
+	private synchronized void queue(Path path, Change change) {
+		// A deleted path may have been a directory, there is no way to tell once it is gone.
+		if (change != Change.DELETED && !path.getFileName().toString().endsWith(ScrollLoader.EXTENSION))
+			return;
+		// The latest event of a path wins. Deleting and recreating a file is a change.
+		pending.remove(path);
+		pending.put(path, change);
+		schedule();
+	}
+
+	private synchronized void schedule() {
+		if (flush != null)
+			flush.cancel(false);
+		flush = reloader.schedule(this::flush, debounce, TimeUnit.MILLISECONDS);
+	}
+
+	private void flush() {
+		List<Path> changed = new ArrayList<>();
+		List<Path> deleted = new ArrayList<>();
+		boolean rescan;
+		synchronized (this) {
+			pending.forEach((path, change) -> (change == Change.DELETED ? deleted : changed).add(path));
+			pending.clear();
+			rescan = this.rescan;
+			this.rescan = false;
+			flush = null;
+		}
+		try {
+			if (rescan) {
+				ScrollLoader.loadScriptsAtDirectory(scriptsFolder);
+				return;
+			}
+			for (Path path : deleted)
+				unloadScriptsUnder(path);
+			List<Path> paths = changed.stream()
+					.filter(Files::exists)
+					.filter(path -> !Files.isDirectory(path))
+					.filter(ScrollLoader::validateScriptAt)
+					.toList();
+			if (!paths.isEmpty())
+				ScrollLoader.loadScripts(paths);
+		} catch (Exception exception) {
+			Scroll.getInstance().printException(exception, Scroll.languageFormat("scripts.watcher.failed", scriptsFolder));
+		}
+	}
+
+	/**
+	 * Unloads the script at the path, or every script in it if the path was a directory.
+	 */
+	private void unloadScriptsUnder(Path path) {
+		Path prefix = path.toAbsolutePath().normalize();
+		ScrollLoader.getLoadedScripts().stream()
+				.filter(script -> script.getPath().toAbsolutePath().normalize().startsWith(prefix))
+				.forEach(ScrollLoader::unloadScript);
+	}
+
+	/**
+	 * Compares the whole scripts folder again with the next reload pass.
+	 * Used when events may have been missed, like while the watcher was not running.
+	 */
+	void rescan() {
+		rescan = true;
+		schedule();
+	}
+
+	/**
+	 * @return The scripts that are being watched for changes.
+	 */
+	public Path getScriptsFolder() {
+		return scriptsFolder;
+	}
+
+	/**
+	 * @return true if the loaded {@link Script}s are reloaded when their files change.
+	 */
+	public boolean isWatching() {
+		return thread.isAlive();
+	}
+
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		reloader.shutdownNow();
+	}
+
+}
@@ -3,19 +3,29 @@ package org.scrolllang.scroll;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UnknownFormatConversionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
+import org.scrolllang.scroll.context.CancellableContext;
 import org.scrolllang.scroll.elements.Types;
 import org.scrolllang.scroll.exceptions.EmptyStacktraceException;
+import org.scrolllang.scroll.language.RateLimiter;
 import org.scrolllang.scroll.language.ScrollEvent;
+import org.scrolllang.scroll.language.ScrollTriggerList;
 import org.scrolllang.scroll.log.ExceptionPrinter;
+import org.scrolllang.scroll.scheduler.TickScheduler;
+import org.scrolllang.scroll.script.ParseSession;
+import org.scrolllang.scroll.utils.ClassIndex;
 import org.scrolllang.scroll.utils.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +44,8 @@ import io.github.syst3ms.skriptparser.types.TypeManager;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
 import net.kyori.adventure.platform.modcommon.MinecraftAudiences;
@@ -60,11 +72,35 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	private static Path SCROLL_FOLDER;
 	private static Scroll INSTANCE;
 
+	/**
+	 * The packages containing the syntaxes Scroll statically initializes. Must match the packages of the generateClassIndex task in build.gradle.
+	 */
+	private static final String[] SYNTAX_PACKAGES = {
+		"org.scrolllang.scroll.commands",
+		"org.scrolllang.scroll.elements",
+		"io.github.syst3ms.skriptparser.expressions",
+		"io.github.syst3ms.skriptparser.effects",
+		"io.github.syst3ms.skriptparser.event",
+		"io.github.syst3ms.skriptparser.lang",
+		"io.github.syst3ms.skriptparser.sections",
+		"io.github.syst3ms.skriptparser.tags"
+	};
+
 	static final List<ScrollAddon> ADDONS = new ArrayList<>();
 	static MinecraftAudiences ADVENTURE;
 	static MinecraftServer SERVER;
 	static ScrollAddon SELF;
 
+	@Nullable
+	private static volatile ScriptWatcher WATCHER;
+	private static TickScheduler SCHEDULER;
+
+	/**
+	 * Completes once the syntaxes are registered and the scripts are loaded.
+	 */
+	private static final CompletableFuture<Void> READY = new CompletableFuture<>();
+	private static final AtomicBoolean LOADER_STARTED = new AtomicBoolean();
+
 	@Override
 	public void onInitialize() {
 		INSTANCE = this;
@@ -83,14 +119,26 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 			return;
 		}
 
+		SCHEDULER = new TickScheduler(CONFIGURATION.getSchedulerBudget());
+		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			// Scheduled tasks count towards the watchdog budget of the next tick, they run after the events of this one.
+			ScrollEvent.endTick();
+			SCHEDULER.tick();
+		});
 		ServerLifecycleEvents.SERVER_STARTING.register(server -> {
 			ADVENTURE = MinecraftServerAudiences.of(server);
 			SERVER = server;
+			// In single player the scripts stay loaded between worlds, the watcher is only started again.
+			if (READY.isDone())
+				startWatcher(true);
 		});
 		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			stopWatcher();
+			SCHEDULER.clear();
 			ADVENTURE = null;
 			SERVER = null;
 		});
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> RateLimiter.forgetPlayer(handler.getPlayer().getUuid()));
 
 		SkriptLogger registrationLogger = new SkriptLogger(CONFIGURATION.isDebug());
 		REGISTRATION = new SkriptRegistration(this, registrationLogger);
@@ -104,6 +152,48 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 		ADDONS.add(SELF);
 	}
 
+	/**
+	 * Registers and loads the scripts on a background thread, so that it overlaps with the game loading worlds.
+	 * Triggers do not run until this is done, see {@link #isReady()}.
+	 * 
+	 * @param types Registers the client or server specific types, called on the background thread before {@link #register()}.
+	 * @return A future that completes once the scripts are loaded. Also completes if loading failed.
+	 */
+	static CompletableFuture<Void> registerAsync(Runnable types) {
+		if (LOADER_STARTED.getAndSet(true))
+			return READY;
+		Thread thread = new Thread(() -> {
+			long start = System.nanoTime();
+			try {
+				types.run();
+				register();
+				LOGGER.info(languageFormat("scroll.loading.ready", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+			} catch (Throwable throwable) {
+				getInstance().printException(throwable, languageFormat("scroll.loading.failed"));
+			} finally {
+				// Also complete when loading failed, so that held logins and events are not blocked forever.
+				READY.complete(null);
+			}
+		}, "Scroll Loader");
+		thread.setDaemon(true);
+		thread.start();
+		return READY;
+	}
+
+	/**
+	 * @return true once the syntaxes are registered and the scripts are loaded. Events do not run triggers before that.
+	 */
+	public static boolean isReady() {
+		return READY.isDone();
+	}
+
+	/**
+	 * @return A future that completes once the syntaxes are registered and the scripts are loaded.
+	 */
+	public static CompletableFuture<Void> getReadyFuture() {
+		return READY;
+	}
+
 	/**
 	 * Separated for client and server specific types to be registered before syntaxes.
 	 */
@@ -116,23 +206,26 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 
 		// Note that the class scanner in the skript-parser init method above will not work as it assumes classes
 		// are in a JAR. So because of that, we have to statically initalize the classes ourselves.
-		new Reflections(
-				"org.scrolllang.scroll.commands",
-				"org.scrolllang.scroll.elements",
-				"io.github.syst3ms.skriptparser.expressions",
-				"io.github.syst3ms.skriptparser.effects",
-				"io.github.syst3ms.skriptparser.event",
-				"io.github.syst3ms.skriptparser.lang",
-				"io.github.syst3ms.skriptparser.sections",
-				"io.github.syst3ms.skriptparser.tags",
-				Scanners.SubTypes.filterResultsBy(s -> true)
-		).getSubTypesOf(Object.class).forEach(clazz -> {
-			try {
-				Class.forName(clazz.getName(), true, Scroll.class.getClassLoader());
-			} catch (ClassNotFoundException e) {
-				e.printStackTrace();
-			}
-		});
+		// The classes are listed at build time by the generateClassIndex task, so no classpath scanning is needed.
+		ClassLoader classLoader = Scroll.class.getClassLoader();
+		List<String> classes = new ArrayList<>(ClassIndex.read(classLoader, ClassIndex.RESOURCE, SYNTAX_PACKAGES));
+		if (ENVIRONMENT == EnvType.CLIENT)
+			classes.addAll(ClassIndex.read(classLoader, ClassIndex.CLIENT_RESOURCE, SYNTAX_PACKAGES));
+		if (!classes.isEmpty()) {
+			ClassIndex.initialize(classLoader, classes);
+		} else {
+			// No index was built, for example when running from an IDE without Gradle.
+			new Reflections(
+					SYNTAX_PACKAGES,
+					Scanners.SubTypes.filterResultsBy(s -> true)
+			).getSubTypesOf(Object.class).forEach(clazz -> {
+				try {
+					Class.forName(clazz.getName(), true, classLoader);
+				} catch (ClassNotFoundException e) {
+					e.printStackTrace();
+				}
+			});
+		}
 		Parser.printLogs(REGISTRATION.register(), Calendar.getInstance(), true);
 		ADDONS.stream()
 			.sorted(Comparator.comparingInt(ScrollAddon::getPriority).reversed())
@@ -142,8 +235,57 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 				Parser.printLogs(registration.register(), Calendar.getInstance(), true);
 			});
 
-		ScrollLoader.loadScriptsAtDirectory(FileUtils.getOrCreateDir(SCROLL_FOLDER.resolve("scripts")));
+		Path scripts = FileUtils.getOrCreateDir(SCROLL_FOLDER.resolve("scripts"));
+		ScrollLoader.loadScriptsAtDirectory(scripts);
 		// TODO Deal with triggers not getting cleared after a reload.
+
+		startWatcher(false);
+	}
+
+	/**
+	 * Starts watching the scripts folder if it is enabled in the configuration and the watcher is not running.
+	 * 
+	 * @param rescan If the scripts folder may have changed since the scripts were loaded.
+	 */
+	private static synchronized void startWatcher(boolean rescan) {
+		if (!CONFIGURATION.isWatchingScripts() || WATCHER != null)
+			return;
+		Path scripts = ScrollLoader.getScriptsFolder();
+		try {
+			WATCHER = new ScriptWatcher(scripts, CONFIGURATION.getWatchDebounce());
+			WATCHER.start();
+			if (rescan)
+				WATCHER.rescan();
+		} catch (IOException exception) {
+			Scroll.getInstance().printException(exception, languageFormat("scripts.watcher.start.failed", scripts));
+			WATCHER = null;
+		}
+	}
+
+	private static synchronized void stopWatcher() {
+		if (WATCHER == null)
+			return;
+		try {
+			WATCHER.close();
+		} catch (IOException exception) {
+			Scroll.getInstance().printException(exception, languageFormat("scripts.watcher.failed", WATCHER.getScriptsFolder()));
+		}
+		WATCHER = null;
+	}
+
+	/**
+	 * @return The {@link TickScheduler} that runs waits and periodical events on the server tick.
+	 */
+	public static TickScheduler getScheduler() {
+		return SCHEDULER;
+	}
+
+	/**
+	 * @return The {@link ScriptWatcher} if watching scripts is enabled in the configuration.
+	 */
+	@Nullable
+	public static ScriptWatcher getScriptWatcher() {
+		return WATCHER;
 	}
 
 	/**
@@ -154,6 +296,22 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 		return SERVER;
 	}
 
+	/**
+	 * Runs a task on the server thread, for changes to game state such as the command dispatcher.
+	 * The task runs directly if called on the server thread, or if there is no server yet to change the state of.
+	 * Otherwise it is queued and this method returns before it runs.
+	 * 
+	 * @param task The task to run.
+	 */
+	public static void runOnServerThread(Runnable task) {
+		MinecraftServer server = SERVER;
+		if (server == null || server.isOnThread()) {
+			task.run();
+			return;
+		}
+		server.execute(task);
+	}
+
 	static void setAdventure(MinecraftAudiences adventure) {
 		Scroll.ADVENTURE = adventure;
 	}
@@ -252,8 +410,9 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	 * @param tip A hint to provide to the Scroll user for the error.
 	 */
 	public static void error(String message, ErrorType type, @Nullable String tip) {
-		if (ScrollLoader.CURRENT_LOGGER != null) {
-			ScrollLoader.CURRENT_LOGGER.error(message, type, tip);
+		SkriptLogger logger = ScrollLoader.getCurrentLogger();
+		if (logger != null) {
+			logger.error(message, type, tip);
 			return;
 		}
 		LOGGER.error(message);
@@ -267,8 +426,9 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	 * @param message The message to print.
 	 */
 	public static void info(String message) {
-		if (ScrollLoader.CURRENT_LOGGER != null) {
-			ScrollLoader.CURRENT_LOGGER.info(message);
+		SkriptLogger logger = ScrollLoader.getCurrentLogger();
+		if (logger != null) {
+			logger.info(message);
 			return;
 		}
 		LOGGER.info(message);
@@ -282,8 +442,9 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	 * @param message The message to print.
 	 */
 	public static void warning(String message) {
-		if (ScrollLoader.CURRENT_LOGGER != null) {
-			ScrollLoader.CURRENT_LOGGER.warn(message);
+		SkriptLogger logger = ScrollLoader.getCurrentLogger();
+		if (logger != null) {
+			logger.warn(message);
 			return;
 		}
 		LOGGER.warn(message);
@@ -298,8 +459,9 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	 * @param tip A hint to provide to the Scroll user for the error.
 	 */
 	public static void warning(String message, @Nullable String tip) {
-		if (ScrollLoader.CURRENT_LOGGER != null) {
-			ScrollLoader.CURRENT_LOGGER.warn(message, tip);
+		SkriptLogger logger = ScrollLoader.getCurrentLogger();
+		if (logger != null) {
+			logger.warn(message, tip);
 			return;
 		}
 		LOGGER.warn(message);
@@ -370,11 +532,22 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 			return;
 
 		ScrollEvent scrollEvent = (ScrollEvent) event;
-		scrollEvent.getTriggers().addTriggers(trigger);
+		ScrollTriggerList triggers = scrollEvent.getTriggers();
+		ParseSession session = ScrollLoader.getCurrentSession();
+		if (session == null) {
+			triggers.addTriggers(trigger);
+			return;
+		}
+		// Staged until the whole script parsed, the previous version keeps handling events meanwhile.
+		session.addTrigger(triggers, trigger);
 	}
 
 	/**
 	 * Returns an EventRegistrar for a {@link ScrollEvent}
+	 * <p>
+	 * Events with a {@link CancellableContext} also accept a priority and whether to ignore cancelled events
+	 * after their patterns, and whether to run asynchronously before them.
+	 * See {@link ScrollEvent#OPTIONS_PATTERN} and {@link ScrollEvent#ASYNC_PATTERN}.
 	 * 
 	 * @param event the ScrollEvent class
 	 * @param context the {@link TriggerContext} this ScrollEvent will handle.
@@ -382,6 +555,8 @@ public class Scroll extends SkriptAddon implements ModInitializer {
 	 * @return EventRegistrar
 	 */
 	public static EventRegistrar<? extends ScrollEvent> newEvent(String name, Class<? extends ScrollEvent> event, Class<? extends TriggerContext> context, String... patterns) {
+		if (CancellableContext.class.isAssignableFrom(context))
+			patterns = Arrays.stream(patterns).map(pattern -> ScrollEvent.ASYNC_PATTERN + pattern + ScrollEvent.OPTIONS_PATTERN).toArray(String[]::new);
 		return (EventRegistrar<? extends ScrollEvent>) REGISTRATION.newEvent(event, patterns).setHandledContexts(context).addData("scroll-information", new ScrollEvent.Information(name));
 	}
 
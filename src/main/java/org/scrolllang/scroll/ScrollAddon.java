@@ -3,10 +3,13 @@ package org.scrolllang.scroll;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.exceptions.EmptyStacktraceException;
 import org.scrolllang.scroll.log.ExceptionPrinter;
+import org.scrolllang.scroll.utils.ClassIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,11 +55,22 @@ public abstract class ScrollAddon {
 	 * Utility method to statically load syntaxes classes in packages.
 	 * Setting mainPackage to me.example.addon and the subPackage to elements
 	 * Will statically initalize all classes in me.example.addon.elements.
+	 * <p>
+	 * If the addon jar contains a class index, see {@link ClassIndex}, the listed classes are loaded instead of scanning the jar.
 	 * 
 	 * @param mainPackage The main package to start from.
 	 * @param subPackages The sub packages within the main package to initalize.
 	 */
 	protected void loadClasses(String mainPackage, String... subPackages) {
+		String[] packages = subPackages.length == 0
+				? new String[] {mainPackage}
+				: Arrays.stream(subPackages).map(subPackage -> mainPackage + "." + subPackage).toArray(String[]::new);
+		ClassLoader loader = getClass().getClassLoader();
+		List<String> classes = ClassIndex.read(loader, ClassIndex.RESOURCE, packages);
+		if (!classes.isEmpty()) {
+			ClassIndex.initialize(loader, classes);
+			return;
+		}
 		try {
 			FileUtils.loadClasses(FileUtils.getJarFile(getClass()), mainPackage, subPackages);
 		} catch (IOException | URISyntaxException exception) {
@@ -6,32 +6,48 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.ParseExecutor.ParseTask;
+import org.scrolllang.scroll.commands.Command;
 import org.scrolllang.scroll.commands.CommandManager;
-import org.scrolllang.scroll.language.ScrollEvent;
+import org.scrolllang.scroll.language.ScrollTriggerList;
+import org.scrolllang.scroll.log.TriggerErrors;
+import org.scrolllang.scroll.script.ParseSession;
 import org.scrolllang.scroll.script.Script;
+import org.scrolllang.scroll.script.ScriptFingerprint;
+import org.scrolllang.scroll.script.ScriptRegistry;
 import org.scrolllang.scroll.utils.FileUtils;
 
 import com.google.common.collect.Sets;
 
 import io.github.syst3ms.skriptparser.Parser;
-import io.github.syst3ms.skriptparser.lang.SkriptEvent;
+import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.log.LogEntry;
+import io.github.syst3ms.skriptparser.log.LogType;
 import io.github.syst3ms.skriptparser.log.SkriptLogger;
 import io.github.syst3ms.skriptparser.parsing.ScriptLoader;
 import net.fabricmc.loader.api.FabricLoader;
@@ -52,20 +68,58 @@ public class ScrollLoader {
 		"lang.scroll"
 	);
 
-	private static final List<Script> LOADED_SCRIPTS = new ArrayList<>();
+	private static final ScriptRegistry LOADED_SCRIPTS = new ScriptRegistry();
+
+	/**
+	 * Scripts that are being parsed for the first time, shared by all parses of their path until they are published.
+	 */
+	private static final Map<Path, Script> STAGED_SCRIPTS = new ConcurrentHashMap<>();
+	private static final Map<Path, ParseOrder> PARSE_ORDERS = new ConcurrentHashMap<>();
+	private static final ThreadLocal<ParseSession> SESSION = new ThreadLocal<>();
 	private static final boolean DEBUG = Scroll.CONFIGURATION.isDebug();
+	private static final ParseExecutor PARSER = new ParseExecutor(Scroll.CONFIGURATION.getParseParallelism(), Scroll.CONFIGURATION.getParseTimeout());
 
 	public static final String DISABLED_PREFIX = "-";
 	public static final String EXTENSION = ".scroll";
 
+	/**
+	 * @return The {@link ParseSession} of the script being parsed on the current thread. Null if the current thread is not parsing a script.
+	 */
 	@Nullable
-	public static SkriptLogger CURRENT_LOGGER;
+	public static ParseSession getCurrentSession() {
+		return SESSION.get();
+	}
 
+	/**
+	 * @return The {@link Script} being parsed on the current thread. Null if the current thread is not parsing a script.
+	 */
 	@Nullable
-	private static Script CURRENT_SCRIPT;
-
 	public static Script getCurrentlyLoadingScript() {
-		return CURRENT_SCRIPT;
+		ParseSession session = SESSION.get();
+		return session == null ? null : session.getScript();
+	}
+
+	/**
+	 * @return The logger of the script being parsed on the current thread. Null if the current thread is not parsing a script.
+	 */
+	@Nullable
+	public static SkriptLogger getCurrentLogger() {
+		ParseSession session = SESSION.get();
+		return session == null ? null : session.getLogger();
+	}
+
+	/**
+	 * @return The {@link ScriptRegistry} of the loaded scripts.
+	 */
+	public static ScriptRegistry getScriptRegistry() {
+		return LOADED_SCRIPTS;
+	}
+
+	/**
+	 * @return The {@link ParseExecutor} that scripts are parsed on.
+	 */
+	public static ParseExecutor getParseExecutor() {
+		return PARSER;
 	}
 
 	/**
@@ -164,24 +218,116 @@ public class ScrollLoader {
 			Scroll.LOGGER.error(Scroll.language("scripts.load.internal.scripts"));
 			return new ArrayList<>();
 		};
-		long start = System.nanoTime();
-		LOADED_SCRIPTS.clear(); // TODO proper unloading.
 		SCRIPTS_FOLDER = scriptsPath;
-		List<Script> scripts = collectScriptsAt(scriptsPath)
-				.parallel()
-				.map(ScrollLoader::loadScriptAt)
-				.filter(Optional::isPresent)
-				.map(Optional::get)
-				.collect(Collectors.toList());
-		if (scripts.isEmpty()) {
+		List<Path> paths = collectScriptsAt(scriptsPath).collect(Collectors.toList());
+
+		// Unload the scripts which no longer exist in the scripts folder.
+		unloadScriptsNotIn(paths);
+
+		List<Script> scripts = loadScripts(paths);
+		if (scripts.isEmpty())
 			Scroll.LOGGER.warn(Scroll.language("scroll.no.scripts"));
-			return scripts;
+		return scripts;
+	}
+
+	/**
+	 * Unloads the loaded scripts that are not at one of the provided paths, for example because their file was deleted.
+	 * 
+	 * @param paths The paths of the scripts that still exist.
+	 * @return The {@link Script}s that were unloaded.
+	 */
+	public static List<Script> unloadScriptsNotIn(Collection<Path> paths) {
+		Set<Path> existing = paths.stream().map(path -> path.toAbsolutePath().normalize()).collect(Collectors.toSet());
+		List<Script> removed = LOADED_SCRIPTS.getScripts().stream()
+				.filter(script -> !existing.contains(script.getPath().toAbsolutePath().normalize()))
+				.toList();
+		removed.forEach(ScrollLoader::unloadScript);
+		return removed;
+	}
+
+	/**
+	 * Loads or reloads all the scripts at the provided paths in a single pass.
+	 * Scripts that are already loaded and {@link #isUpToDate(Script) up to date} are not parsed again.
+	 * 
+	 * @param paths The paths to the script files. Invalid script paths are ignored.
+	 * @return The Scripts that are loaded after the pass. Can be empty, but not null.
+	 */
+	@NotNull
+	public static List<Script> loadScripts(Collection<Path> paths) {
+		long start = System.nanoTime();
+		AtomicInteger unchanged = new AtomicInteger();
+		List<Script> scripts = new ArrayList<>();
+		if (PARSER.isParserThread()) {
+			// Already on a parser thread, waiting on other parse tasks here could starve the executor.
+			paths.forEach(path -> stage(path, unchanged).get().ifPresent(scripts::add));
+		} else {
+			// Queue every script first so they parse in parallel, then wait for all of them.
+			Map<Path, ParseTask<Supplier<Optional<Script>>>> tasks = new LinkedHashMap<>();
+			for (Path path : paths)
+				tasks.put(path, PARSER.submit(path.getFileName().toString(), () -> stage(path, unchanged)));
+			tasks.forEach((path, task) -> await(path, task).ifPresent(scripts::add));
 		}
-		LOADED_SCRIPTS.addAll(scripts);
-		Scroll.LOGGER.info(Scroll.languageFormat("scroll.scripts.loaded", scripts.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+		complete(scripts, unchanged.get(), start);
 		return scripts;
 	}
 
+	/**
+	 * Loads or reloads all the scripts at the provided paths on the parse executor, without blocking the calling thread.
+	 * Scripts that are already loaded and {@link #isUpToDate(Script) up to date} are not parsed again.
+	 * The scripts are published on the server thread once they are parsed, see {@link Scroll#runOnServerThread(Runnable)}.
+	 * 
+	 * @param paths The paths to the script files. Invalid script paths are ignored.
+	 * @param listener Called for every script once its task is done and it is published, with the script if it loaded.
+	 * @return A future of the Scripts that are loaded after the pass. Can be empty, but not null.
+	 */
+	@NotNull
+	public static CompletableFuture<List<Script>> loadScriptsAsync(Collection<Path> paths, BiConsumer<ParseTask<?>, Optional<Script>> listener) {
+		long start = System.nanoTime();
+		AtomicInteger unchanged = new AtomicInteger();
+		List<CompletableFuture<Optional<Script>>> futures = new ArrayList<>();
+		for (Path path : paths) {
+			ParseTask<Supplier<Optional<Script>>> task = PARSER.submit(path.getFileName().toString(), () -> stage(path, unchanged));
+			// The future only completes normally if the task was not cancelled, so timed out scripts are never published.
+			futures.add(task.getFuture().thenApplyAsync(Supplier::get, Scroll::runOnServerThread).handle((script, failure) -> {
+				Optional<Script> result = failure == null ? result(path, task, script) : failed(path, task, failure);
+				listener.accept(task, result);
+				return result;
+			}));
+		}
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+			List<Script> scripts = new ArrayList<>();
+			futures.forEach(future -> future.join().ifPresent(scripts::add));
+			complete(scripts, unchanged.get(), start);
+			return scripts;
+		});
+	}
+
+	/**
+	 * Parses the script at the path if it is not up to date. Runs in the parse task of the script.
+	 * 
+	 * @param path The path to the script file.
+	 * @param unchanged Incremented if the script is loaded and up to date.
+	 * @return Publishes the script when called, see {@link #parseScriptAt(Path)}.
+	 */
+	private static Supplier<Optional<Script>> stage(Path path, AtomicInteger unchanged) {
+		Optional<Script> existing = getScriptAt(path);
+		if (existing.isPresent() && isUpToDate(existing.get())) {
+			unchanged.incrementAndGet();
+			return () -> existing;
+		}
+		if (Files.isDirectory(path) || !validateScriptAt(path))
+			return Optional::empty;
+		return parseScriptAt(path);
+	}
+
+	private static void complete(List<Script> scripts, int unchanged, long start) {
+		if (unchanged > 0)
+			Scroll.LOGGER.info(Scroll.languageFormat("scroll.scripts.unchanged", unchanged));
+		int parsed = scripts.size() - unchanged;
+		if (parsed > 0)
+			Scroll.LOGGER.info(Scroll.languageFormat("scroll.scripts.loaded", parsed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+	}
+
 	/**
 	 * Loads a script at the provided path.
 	 * 
@@ -196,35 +342,87 @@ public class ScrollLoader {
 		}
 		if (!validateScriptAt(path))
 			return Optional.empty();
-		Script script = LOADED_SCRIPTS.stream()
-				.filter(existing -> existing.getPath().equals(path))
-				.map(existing -> {
-					CommandManager.unregisterAll(existing);
-					return existing;
-				})
-				.findFirst()
-				.orElse(new Script(path));
-		LOADED_SCRIPTS.remove(script);
-		CURRENT_SCRIPT = script;
-		ScriptLoader.getTriggerMap().entrySet().stream()
-				.filter(entry -> {
-					String fileName = path.getFileName().toString().replaceAll("(.+)\\..+", "$1");
-					return entry.getKey().equalsIgnoreCase(fileName);
-				})
-				.map(Entry::getValue)
-				.flatMap(List::stream)
-				.forEach(trigger -> {
-					SkriptEvent event = trigger.getEvent();
-					if (!(event instanceof ScrollEvent))
-						return;
-
-					ScrollEvent scrollEvent = (ScrollEvent) event;
-					scrollEvent.getTriggers().clear();
-				});
-		List<LogEntry> entries;
+		if (PARSER.isParserThread())
+			return parseScriptAt(path).get();
+		return await(path, PARSER.submit(path.getFileName().toString(), () -> parseScriptAt(path)));
+	}
+
+	/**
+	 * Waits for a parse task of a script to complete, and publishes the script if the task was not cancelled.
+	 * 
+	 * @param path The path to the script file being parsed.
+	 * @param task The parse task of the script.
+	 * @return The loaded script. Empty if the task failed or timed out.
+	 */
+	private static Optional<Script> await(Path path, ParseTask<Supplier<Optional<Script>>> task) {
+		try {
+			return result(path, task, task.get().get());
+		} catch (CancellationException exception) {
+			return failed(path, task, exception);
+		} catch (InterruptedException exception) {
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		} catch (ExecutionException exception) {
+			return failed(path, task, exception.getCause());
+		}
+	}
+
+	private static Optional<Script> result(Path path, ParseTask<?> task, Optional<Script> script) {
+		if (DEBUG)
+			Scroll.LOGGER.info(Scroll.languageFormat("scripts.parse.timings", path.getFileName(), task.getParseTime(TimeUnit.MILLISECONDS), task.getQueueTime(TimeUnit.MILLISECONDS)));
+		return script;
+	}
+
+	private static Optional<Script> failed(Path path, ParseTask<?> task, Throwable failure) {
+		if (failure instanceof CompletionException && failure.getCause() != null)
+			failure = failure.getCause();
+		if (failure instanceof CancellationException) {
+			if (task.isTimedOut())
+				Scroll.LOGGER.error(Scroll.languageFormat("scripts.loading.timeout", path.getFileName()));
+			return Optional.empty();
+		}
+		Scroll.getInstance().printException(failure, Scroll.languageFormat("scripts.parse.exception", path.getFileName()));
+		return Optional.empty();
+	}
+
+	/**
+	 * Parses the script at the provided path on the current thread.
+	 * <p>
+	 * Nothing is registered while parsing. The returned supplier publishes the script, it is only called
+	 * once the parse task completed without being cancelled, so a script that timed out is never published.
+	 * 
+	 * @param path The path to the script file. Must be a valid script path.
+	 * @return Publishes the script and returns it. Empty if the parse was cancelled or failed for a loaded script.
+	 */
+	private static Supplier<Optional<Script>> parseScriptAt(Path path) {
+		// Parses of the same path run one after another, for example the watcher and a reload command both loading a new script.
+		Path key = path.toAbsolutePath().normalize();
+		ParseOrder order = PARSE_ORDERS.computeIfAbsent(key, ignored -> new ParseOrder());
+		try {
+			order.lock.lockInterruptibly();
+		} catch (InterruptedException exception) {
+			// Timed out while waiting for the other parse of this script.
+			return Optional::empty;
+		}
 		try {
-			CURRENT_LOGGER = new SkriptLogger(DEBUG);
-			entries = CompletableFuture.supplyAsync(() -> ScriptLoader.loadScript(path, CURRENT_LOGGER, DEBUG)).get(5, TimeUnit.MINUTES);
+			return parseScriptAt(path, key, order, ++order.parsed);
+		} finally {
+			order.lock.unlock();
+		}
+	}
+
+	private static Supplier<Optional<Script>> parseScriptAt(Path path, Path key, ParseOrder order, long generation) {
+		Optional<Script> existing = getScriptAt(path);
+		// The previous parse may not be published yet, reuse its script so there are never two versions of a new script.
+		Script script = existing.orElseGet(() -> STAGED_SCRIPTS.computeIfAbsent(key, ignored -> new Script(path)));
+		Optional<ScriptFingerprint> fingerprint = fingerprint(path);
+		ParseSession session = new ParseSession(script, new SkriptLogger(DEBUG));
+		boolean errors;
+		SESSION.set(session);
+		try {
+			SkriptLogger logger = session.getLogger();
+			List<LogEntry> entries = ScriptLoader.loadScript(path, logger, DEBUG);
 //			for (LogEntry log : entries) {
 //				ConsoleColors color = ConsoleColors.WHITE;
 //				if (log.getType() == LogType.WARNING) {
@@ -242,22 +440,120 @@ public class ScrollLoader {
 //				boolean tipsEnabled = true;
 //				if (tipsEnabled && log.getTip().isPresent())
 //					Scroll.LOGGER.info(String.format(ConsoleColors.BLUE_BRIGHT + CONSOLE_FORMAT + ConsoleColors.RESET, time, "TIP", log.getTip().get()));
-//	        }
-			CURRENT_LOGGER.finalizeLogs();
-			entries.addAll(CURRENT_LOGGER.close());
+//			}
+			logger.finalizeLogs();
+			entries.addAll(logger.close());
 			// TODO print to command sender if done via command.
 			Parser.printLogs(entries, Calendar.getInstance(), true);
-			CURRENT_LOGGER = null;
-		} catch (InterruptedException | TimeoutException exception) {
-			Scroll.LOGGER.error(Scroll.languageFormat("scripts.loading.timeout", path.getFileName()));
-			return Optional.empty();
-		} catch (ExecutionException exception) {
-			Scroll.getInstance().printException(exception, Scroll.languageFormat("scripts.parse.exception", path.getFileName()));
+			errors = entries.stream().anyMatch(entry -> entry.getType() == LogType.ERROR);
+		} finally {
+			SESSION.remove();
+		}
+		// Nothing of the new version has been registered yet, so failed parses simply leave the previous version live.
+		if (Thread.interrupted()) {
+			// The parse was cancelled because it timed out, the caller has already given up on this script.
+			return Optional::empty;
+		}
+		if (errors && existing.isPresent()) {
+			Scroll.LOGGER.warn(Scroll.languageFormat("scripts.reload.kept", script.getFileName()));
+			return Optional::empty;
+		}
+		return () -> {
+			synchronized (order) {
+				// The parse lock is released before publishing, a later parse of the script may have published first.
+				if (generation < order.published)
+					return getScriptAt(path);
+				order.published = generation;
+				publish(script, session);
+				script.setFingerprint(fingerprint.orElse(null));
+			}
+			return Optional.of(script);
+		};
+	}
+
+	/**
+	 * The parses of a script path. They run one after another, but publish later on the thread that waits for them.
+	 * Every parse takes the next generation, and only publishes if no parse of a later generation published before it.
+	 */
+	private static final class ParseOrder {
+
+		private final Lock lock = new ReentrantLock();
+		private long parsed, published;
+
+	}
+
+	/**
+	 * Swaps the commands and triggers of the previous version of the script with the ones staged in the session.
+	 * Each trigger list is swapped atomically, events fire either the old or the new triggers, never none.
+	 * 
+	 * @param script The {@link Script} to publish.
+	 * @param session The {@link ParseSession} the new version of the script was parsed in.
+	 */
+	private static void publish(Script script, ParseSession session) {
+		synchronized (script) {
+			Map<ScrollTriggerList, List<Trigger>> previous = script.getTriggers();
+			Map<ScrollTriggerList, List<Trigger>> staged = session.getTriggers();
+			// Brigadier is not thread safe, the command tree is only changed on the server thread.
+			List<Command> commands = session.getCommands();
+			Scroll.runOnServerThread(() -> CommandManager.publish(script, commands));
+			Set<ScrollTriggerList> lists = new HashSet<>(previous.keySet());
+			lists.addAll(staged.keySet());
+			for (ScrollTriggerList list : lists)
+				list.replace(previous.getOrDefault(list, List.of()), staged.getOrDefault(list, List.of()));
+			script.setTriggers(staged);
+			LOADED_SCRIPTS.add(script);
+			STAGED_SCRIPTS.remove(script.getPath().toAbsolutePath().normalize(), script);
+		}
+		TriggerErrors.forget(script);
+	}
+
+	/**
+	 * Unloads the provided script. Unregisters its commands and triggers without touching the script file.
+	 * 
+	 * @param script The {@link Script} to unload.
+	 */
+	public static void unloadScript(Script script) {
+		Scroll.runOnServerThread(() -> CommandManager.unregisterAll(script));
+		removeTriggers(script);
+		LOADED_SCRIPTS.remove(script);
+		TriggerErrors.forget(script);
+	}
+
+	/**
+	 * Removes the triggers the script added from their events. Triggers of other scripts are left untouched.
+	 * 
+	 * @param script The {@link Script} to remove the triggers of.
+	 */
+	private static void removeTriggers(Script script) {
+		synchronized (script) {
+			script.getTriggers().forEach(ScrollTriggerList::removeTriggers);
+			script.setTriggers(Map.of());
+		}
+	}
+
+	/**
+	 * Checks if a loaded script would parse the same as it did when it was last loaded.
+	 * That is when the bytes of the script file have not changed, syntaxes and addons only register once at startup.
+	 * 
+	 * @param script The {@link Script} to check.
+	 * @return true if the script does not need to be parsed again.
+	 */
+	public static boolean isUpToDate(Script script) {
+		ScriptFingerprint previous = script.getFingerprint();
+		if (previous == null)
+			return false;
+		return fingerprint(script.getPath())
+				.map(previous::equals)
+				.orElse(false);
+	}
+
+	private static Optional<ScriptFingerprint> fingerprint(Path path) {
+		try {
+			return Optional.of(ScriptFingerprint.of(path));
+		} catch (IOException exception) {
+			Scroll.LOGGER.error(Scroll.languageFormat("files.read", path.getFileName()));
 			return Optional.empty();
 		}
-		CURRENT_SCRIPT = null;
-		LOADED_SCRIPTS.add(script);
-		return Optional.of(script);
 	}
 
 	/**
@@ -272,11 +568,7 @@ public class ScrollLoader {
 			Scroll.LOGGER.error(Scroll.languageFormat("scripts.load.error.not.directory", directory.toString()));
 			return new ArrayList<>();
 		}
-		return collectScriptsAt(directory)
-				.map(ScrollLoader::loadScriptAt)
-				.filter(Optional::isPresent)
-				.map(Optional::get)
-				.collect(Collectors.toList());
+		return loadScripts(collectScriptsAt(directory).collect(Collectors.toList()));
 	}
 
 	/**
@@ -291,16 +583,13 @@ public class ScrollLoader {
 
 	/**
 	 * Reloads all the provided scripts.
+	 * Scripts that are {@link #isUpToDate(Script) up to date} are not parsed again, but are still returned.
 	 * 
 	 * @param scripts Collection of scripts to reload.
 	 * @return All the {@link Script}s that loaded successfully. If a script path location was changed, it will not be present in the collection.
 	 */
 	public static List<Script> reloadScripts(Collection<Script> scripts) {
-		return scripts.stream()
-				.map(ScrollLoader::reloadScript)
-				.filter(Optional::isPresent)
-				.map(Optional::get)
-				.collect(Collectors.toList());
+		return loadScripts(scripts.stream().map(Script::getPath).toList());
 	}
 
 	/**
@@ -311,7 +600,7 @@ public class ScrollLoader {
 	public static void disableScript(Script script) {
 		Path path = script.getPath();
 		String fileName = script.getFileName();
-		LOADED_SCRIPTS.remove(script);
+		unloadScript(script);
 		if (!Files.exists(path)) // Was renamed
 			return;
 		try {
@@ -343,7 +632,7 @@ public class ScrollLoader {
 		if (!fileName.startsWith(DISABLED_PREFIX))
 			return Optional.empty();
 		Path futurePath = SCRIPTS_FOLDER.resolve(fileName.substring(DISABLED_PREFIX.length()));
-		if (LOADED_SCRIPTS.stream().anyMatch(script -> script.getPath().equals(futurePath))) {
+		if (LOADED_SCRIPTS.contains(futurePath)) {
 			Scroll.LOGGER.error(Scroll.languageFormat("scripts.enable.failed", fileName));
 			return Optional.empty();
 		}
@@ -364,6 +653,16 @@ public class ScrollLoader {
 		paths.stream().forEach(ScrollLoader::enableScriptAt);
 	}
 
+	/**
+	 * Returns an optional if the Script at the path is currently loaded.
+	 * 
+	 * @param path The path to the script file.
+	 * @return Optional will be present if the Script is loaded.
+	 */
+	public static Optional<Script> getScriptAt(Path path) {
+		return LOADED_SCRIPTS.get(path);
+	}
+
 	/**
 	 * Returns an optional if the Script is currently loaded. Ignoring case.
 	 * 
@@ -371,14 +670,7 @@ public class ScrollLoader {
 	 * @return Optional will be present if the Script does exists.
 	 */
 	public static Optional<Script> getScriptByName(String name) {
-		return LOADED_SCRIPTS.stream().filter(script -> {
-			String fileName = script.getFileName();
-			if (fileName.equalsIgnoreCase(name))
-				return true;
-			if (fileName.substring(0, fileName.lastIndexOf(EXTENSION)).equalsIgnoreCase(name))
-				return true;
-			return false;
-		}).findFirst();
+		return LOADED_SCRIPTS.getByName(name);
 	}
 
 	/**
@@ -386,7 +678,7 @@ public class ScrollLoader {
 	 */
 	@NotNull
 	public static Collection<Script> getLoadedScripts() {
-		return Collections.unmodifiableCollection(LOADED_SCRIPTS);
+		return LOADED_SCRIPTS.getScripts();
 	}
 
 }
@@ -4,22 +4,31 @@ import org.scrolllang.scroll.elements.ServerTypes;
 
 import net.fabricmc.api.DedicatedServerModInitializer;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerLoginConnectionEvents;
 import net.kyori.adventure.platform.modcommon.MinecraftClientAudiences;
 
 public class ScrollServer implements DedicatedServerModInitializer {
 
 	@Override
 	public void onInitializeServer() {
+		// Starting is before the worlds load, so loading the scripts overlaps with loading the worlds.
+		ServerLifecycleEvents.SERVER_STARTING.register(server -> {
+			Scroll.SERVER = server;
+			Scroll.registerAsync(() -> ServerTypes.register(Scroll.getRegistration()));
+		});
 		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
 			Scroll.ADVENTURE = MinecraftClientAudiences.of();
-			Scroll.SERVER = server;
-			ServerTypes.register(Scroll.getRegistration());
-			Scroll.register();
 		});
 		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
 			Scroll.ADVENTURE = null;
 			Scroll.SERVER = null;
 		});
+		if (Scroll.CONFIGURATION.isHoldingLogins()) {
+			ServerLoginConnectionEvents.QUERY_START.register((handler, server, sender, synchronizer) -> {
+				if (!Scroll.isReady())
+					synchronizer.waitFor(Scroll.getReadyFuture());
+			});
+		}
 	}
 
 }
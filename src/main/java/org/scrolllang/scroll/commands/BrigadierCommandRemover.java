@@ -44,22 +44,28 @@ public class BrigadierCommandRemover {
 		return (Map<String, ?>) literals.get(node);
 	}
 
+	/**
+	 * Removes the node of the command and the redirect nodes of its aliases.
+	 * 
+	 * @param command The {@link Command} to remove.
+	 * @param root The root node of the dispatcher the command was registered to.
+	 */
 	public void removeCommand(Command command, RootCommandNode<?> root) {
+		remove(command.getName(), root);
+		for (String alias : command.getAliases())
+			remove(alias, root);
+	}
+
+	private void remove(String name, RootCommandNode<?> root) {
 		Map<String, ?> arguments = getArguments(root);
 		if (arguments != null)
-			remove(command.getName(), arguments);
+			arguments.remove(name);
 		Map<String, ?> children = getChildren(root);
 		if (children != null)
-			remove(command.getName(), children);
+			children.remove(name);
 		Map<String, ?> literals = getLiterals(root);
 		if (literals != null)
-			remove(command.getName(), literals);
-	}
-
-	private void remove(String name, Map<String, ?> map) {
-		Object element = map.get(name);
-		if (element != null)
-			map.remove(element);
+			literals.remove(name);
 	}
 
 }
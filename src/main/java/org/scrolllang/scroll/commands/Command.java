@@ -8,11 +8,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.commands.ScriptCommand.ScrollCommandContext;
-import org.scrolllang.scroll.commands.arguments.CommandArgument;
 import org.scrolllang.scroll.commands.arguments.CommandParameter;
 
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
+import io.github.syst3ms.skriptparser.lang.Trigger;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.minecraft.command.CommandSource;
 import net.minecraft.text.Text;
@@ -22,7 +23,6 @@ public class Command {
 	private static final Text DEFAULT_PERMISSION_MESSAGE = Scroll.getAdventure().asNative(MiniMessage.miniMessage().deserialize(Scroll.language("scripts.commands.no.permissions")));
 
 	private final List<CommandParameter<?>> parameters = new ArrayList<>();
-	private final List<CommandArgument<?>> arguments = new ArrayList<>();
 	private final List<String> aliases = new ArrayList<>();
 
 	private final Text permissionMessage;
@@ -31,7 +31,8 @@ public class Command {
 	private final String name;
 	private final Text usage;
 
-	private boolean filled;
+	@Nullable
+	private volatile Trigger trigger;
 
 	public Command(String name, List<CommandParameter<?>> parameters, List<String> aliases, boolean client, int permission, @Nullable Text permissionMessage, @Nullable Text usage) {
 		this.permissionMessage = permissionMessage;
@@ -51,17 +52,6 @@ public class Command {
 		return parameters;
 	}
 
-	/**
-	 * Arguments are only set when this command has been ran, and this command object is updated.
-	 * Use {@link isFilled} to verify if the arguments has been filled for this command.
-	 * 
-	 * @return The arguments if this method is called during runtime, aka the arguments are set.
-	 */
-	@NotNull
-	public List<CommandArgument<?>> getArguments() {
-		return arguments;
-	}
-
 	/**
 	 * @return The aliases for this command.
 	 */
@@ -93,10 +83,24 @@ public class Command {
 	}
 
 	/**
-	 * @return true if the arguments of this command have been filled.
+	 * The trigger is set once the script of this command is published, and cleared when the script unloads.
+	 * 
+	 * @return The {@link Trigger} that handles this command, or null if it is not live.
 	 */
-	public boolean isFilled() {
-		return filled;
+	@Nullable
+	public Trigger getTrigger() {
+		return trigger;
+	}
+
+	/**
+	 * Swaps the trigger of this command, only if the current trigger is the expected one.
+	 * 
+	 * @param expected The trigger that is expected to be current.
+	 * @param trigger The new trigger, or null to clear it.
+	 */
+	synchronized void setTrigger(@Nullable Trigger expected, @Nullable Trigger trigger) {
+		if (this.trigger == expected)
+			this.trigger = trigger;
 	}
 
 	@Nullable
@@ -108,17 +112,17 @@ public class Command {
 		return name;
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	<T extends CommandSource> void fill(ScrollCommandContext<T> context) {
+	/**
+	 * Reads the argument values of an execution into the argument frame of its context.
+	 * 
+	 * @param context The context of the executing command.
+	 * @throws CommandSyntaxException if an argument does not resolve to a value of its type.
+	 */
+	<T extends CommandSource> void fill(ScrollCommandContext<T> context) throws CommandSyntaxException {
 		CommandContext<T> commandContext = context.getCommandContext();
-		for (CommandParameter<?> parameter : parameters) {
-			Text value = null;
-			try {
-				value = commandContext.getArgument(parameter.getIdentifier(), Text.class);
-			} catch (Exception ignored) {}
-			arguments.add(new CommandArgument(parameter, value));
-		}
-		this.filled = true;
+		Object[] arguments = context.getArguments();
+		for (int slot = 0; slot < parameters.size(); slot++)
+			arguments[slot] = parameters.get(slot).getValue(commandContext);
 	}
 
 	@Override
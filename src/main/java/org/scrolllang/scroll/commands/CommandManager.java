@@ -1,8 +1,15 @@
 package org.scrolllang.scroll.commands;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.ScrollLoader;
+import org.scrolllang.scroll.script.ParseSession;
 import org.scrolllang.scroll.script.Script;
 
 import com.google.common.collect.HashMultimap;
@@ -12,6 +19,10 @@ public class CommandManager {
 
 	private static CommandRegistrar<?> serverCommandRegistrar = new ServerCommandRegistrar();
 	private static final Multimap<Script, Command> commands = HashMultimap.create();
+	/**
+	 * The registered commands by their lower cased name and aliases.
+	 */
+	private static final Map<String, Command> names = new HashMap<>();
 	private static CommandRegistrar<?> clientCommandRegistrar;
 
 	static void setClientCommandInitalizer(CommandRegistrar<?> clientCommandRegistrar) throws IllegalAccessException {
@@ -33,7 +44,9 @@ public class CommandManager {
 	 * @return A collection containing all the {@link Command}s registered under a {@link Script}.
 	 */
 	public Collection<Command> getScriptCommands(Script script) {
-		return commands.get(script);
+		synchronized (CommandManager.class) {
+			return List.copyOf(commands.get(script));
+		}
 	}
 
 	/**
@@ -42,14 +55,23 @@ public class CommandManager {
 	 * @param input The string with ignoreCase on to compare against.
 	 * @return true if there was already a command or aliases under the input name.
 	 */
-	public static boolean contains(String input) {
-		for (Command command : commands.values()) {
-			if (command.getName().equalsIgnoreCase(input))
-				return true;
-			if (command.getAliases().stream().anyMatch(input::equalsIgnoreCase))
-				return true;
-		}
-		return false;
+	public static synchronized boolean contains(String input) {
+		return contains(input, null, null);
+	}
+
+	/**
+	 * Validate if the name or an aliases exists already, for a script that is being parsed.
+	 * The commands of the previous version of the script are ignored, as the new version replaces them once published.
+	 * The commands the script staged so far are included.
+	 * 
+	 * @param input The string with ignoreCase on to compare against.
+	 * @param session The {@link ParseSession} of the script being parsed. Same as {@link #contains(String)} if null.
+	 * @return true if there was already a command or aliases under the input name.
+	 */
+	public static synchronized boolean contains(String input, @Nullable ParseSession session) {
+		if (session == null)
+			return contains(input, null, null);
+		return contains(input, session.getScript(), session);
 	}
 
 	/**
@@ -58,27 +80,99 @@ public class CommandManager {
 	 * @param input The string with ignoreCase on to compare against.
 	 * @return true if there was already a command or aliases under the input name.
 	 */
-	public static boolean contains(Command command) {
-		if (contains(command.getName()))
+	public static synchronized boolean contains(Command command) {
+		return contains(command, null, null);
+	}
+
+	/**
+	 * @param input The string with ignoreCase on to compare against.
+	 * @param replaced The script whose registered commands are about to be replaced and should be ignored.
+	 * @param session The session of the script being parsed, whose staged commands are not registered yet but will be.
+	 */
+	private static boolean contains(String input, @Nullable Script replaced, @Nullable ParseSession session) {
+		Command command = names.get(key(input));
+		if (command != null && (replaced == null || !commands.containsEntry(replaced, command)))
 			return true;
-		if (command.getAliases().stream().anyMatch(CommandManager::contains))
+		return session != null && session.getCommand(input) != null;
+	}
+
+	private static boolean contains(Command command, @Nullable Script replaced, @Nullable ParseSession session) {
+		if (names.get(key(command.getName())) == command)
 			return true;
-		if (commands.values().contains(command))
+		if (contains(command.getName(), replaced, session))
 			return true;
+		for (String alias : command.getAliases()) {
+			if (contains(alias, replaced, session))
+				return true;
+		}
 		return false;
 	}
 
+	private static String key(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	private static void add(Script script, Command command) {
+		commands.put(script, command);
+		names.putIfAbsent(key(command.getName()), command);
+		for (String alias : command.getAliases())
+			names.putIfAbsent(key(alias), command);
+	}
+
+	private static void removeNames(Command command) {
+		names.remove(key(command.getName()), command);
+		for (String alias : command.getAliases())
+			names.remove(key(alias), command);
+	}
+
 	/**
 	 * Register a command to Brigadier under Scroll.
+	 * <p>
+	 * If the script is currently being parsed, the command is staged in its {@link ParseSession} instead.
+	 * Staged commands may replace the commands of the previous version of the script, and are registered by {@link #publish(Script, Collection)}.
 	 * 
 	 * @param command The {@link Command} object to register.
 	 * @return false if the command already exists, true if successful.
 	 */
-	public static boolean register(Script script, Command command) {
+	public static synchronized boolean register(Script script, Command command) {
 		if (script == null)
 			return false;
+		ParseSession session = ScrollLoader.getCurrentSession();
+		if (session != null && session.getScript() == script) {
+			if (contains(command, script, session))
+				return false;
+			if (command.isClientSided() && clientCommandRegistrar == null)
+				return false;
+			session.addCommand(command);
+			return true;
+		}
 		if (contains(command))
 			return false;
+		if (!registerCommand(command))
+			return false;
+		add(script, command);
+		return true;
+	}
+
+	/**
+	 * Replaces the registered commands of the script with the commands staged while it was parsed.
+	 * 
+	 * @param script The {@link Script} to publish the commands of.
+	 * @param staged The commands the new version of the script registered.
+	 */
+	public static synchronized void publish(Script script, Collection<Command> staged) {
+		unregisterAll(script);
+		for (Command command : staged) {
+			// Another script may have claimed the name while this script was parsing.
+			if (contains(command) || !registerCommand(command)) {
+				Scroll.LOGGER.error(Scroll.languageFormat("scripts.commands.register.failed", command.getName()));
+				continue;
+			}
+			add(script, command);
+		}
+	}
+
+	private static boolean registerCommand(Command command) {
 		if (command.isClientSided()) {
 			if (clientCommandRegistrar == null)
 				return false;
@@ -86,12 +180,12 @@ public class CommandManager {
 		} else {
 			serverCommandRegistrar.register(command);
 		}
-		commands.put(script, command);
 		return true;
 	}
 
-	public static void unregisterAll(Script script) {
+	public static synchronized void unregisterAll(Script script) {
 		for (Command command : commands.get(script)) {
+			removeNames(command);
 			if (command.isClientSided()) {
 				if (clientCommandRegistrar == null)
 					continue;
@@ -103,7 +197,7 @@ public class CommandManager {
 		commands.removeAll(script);
 	}
 
-	public static void unregisterAll() {
+	public static synchronized void unregisterAll() {
 		for (Command command : commands.values()) {
 			if (command.isClientSided()) {
 				if (clientCommandRegistrar == null)
@@ -114,6 +208,7 @@ public class CommandManager {
 			}
 		}
 		commands.clear();
+		names.clear();
 	}
 
 }
@@ -1,5 +1,16 @@
 package org.scrolllang.scroll.commands;
 
+import java.util.List;
+
+import org.scrolllang.scroll.commands.arguments.CommandParameter;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+
+import net.minecraft.command.CommandRegistryAccess;
 import net.minecraft.command.CommandSource;
 import net.minecraft.text.Text;
 
@@ -14,4 +25,66 @@ public interface CommandRegistrar<T extends CommandSource> {
 
 	public void sendFeedback(T source, Text feedback);
 
+	/**
+	 * Builds the Brigadier literal of a command with its parameters as a nested argument chain.
+	 * Every node after which only optional parameters remain is executable.
+	 * 
+	 * @param command The {@link Command} to build.
+	 * @param registryAccess The registries of the command dispatcher.
+	 * @param execute The Brigadier command to execute.
+	 * @return The literal node builder of the command.
+	 */
+	default LiteralArgumentBuilder<T> build(Command command, CommandRegistryAccess registryAccess, com.mojang.brigadier.Command<T> execute) {
+		return build(command.getName(), command.getParameters(), registryAccess, execute);
+	}
+
+	/**
+	 * Builds the Brigadier literal of a command from its name and parameters, see {@link #build(Command, CommandRegistryAccess, com.mojang.brigadier.Command)}.
+	 * 
+	 * @param name The name of the command.
+	 * @param parameters The parameters of the command, in order.
+	 * @param registryAccess The registries of the command dispatcher.
+	 * @param execute The Brigadier command to execute.
+	 * @return The literal node builder of the command.
+	 */
+	static <T extends CommandSource> LiteralArgumentBuilder<T> build(String name, List<CommandParameter<?>> parameters, CommandRegistryAccess registryAccess, com.mojang.brigadier.Command<T> execute) {
+		ArgumentBuilder<T, ?> next = null;
+		boolean executable = true;
+		for (int i = parameters.size() - 1; i >= 0; i--) {
+			CommandParameter<?> parameter = parameters.get(i);
+			RequiredArgumentBuilder<T, ?> node = RequiredArgumentBuilder.argument(parameter.getIdentifier(), parameter.createArgumentType(registryAccess, i == parameters.size() - 1));
+			if (next != null)
+				node.then(next);
+			if (executable)
+				node.executes(execute);
+			executable &= parameter.isOptional();
+			next = node;
+		}
+		LiteralArgumentBuilder<T> literal = LiteralArgumentBuilder.literal(name);
+		if (next != null)
+			literal.then(next);
+		if (executable)
+			literal.executes(execute);
+		return literal;
+	}
+
+	/**
+	 * Registers the command and its aliases. Aliases redirect to the node of the command,
+	 * so they share its argument chain instead of copying it.
+	 * 
+	 * @param dispatcher The command dispatcher to register to.
+	 * @param command The {@link Command} to register.
+	 * @param registryAccess The registries of the command dispatcher.
+	 * @param execute The Brigadier command to execute.
+	 */
+	default void register(CommandDispatcher<T> dispatcher, Command command, CommandRegistryAccess registryAccess, com.mojang.brigadier.Command<T> execute) {
+		LiteralCommandNode<T> node = dispatcher.register(build(command, registryAccess, execute));
+		for (String alias : command.getAliases()) {
+			// A redirect only applies to the arguments, the alias executes by itself when the command does.
+			dispatcher.register(LiteralArgumentBuilder.<T>literal(alias)
+					.executes(node.getCommand())
+					.redirect(node));
+		}
+	}
+
 }
@@ -3,6 +3,7 @@ package org.scrolllang.scroll.commands;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,7 @@ import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.ScrollLoader;
 import org.scrolllang.scroll.commands.arguments.CommandParameter;
@@ -38,7 +40,20 @@ import net.minecraft.text.Text;
 public class ScriptCommand extends ScrollEvent implements Languaged {
 
 	// Required Context triggers methods. Start.
-	private final static ScrollTriggerList triggers = new ScrollTriggerList();
+	private final static ScrollTriggerList triggers = new ScrollTriggerList() {
+		@Override
+		protected void changed(Collection<Trigger> removed, Collection<Trigger> added) {
+			// Each command runs only its own trigger, see Command#getTrigger().
+			for (Trigger trigger : removed) {
+				if (trigger.getEvent() instanceof ScriptCommand event && event.command != null)
+					event.command.setTrigger(trigger, null);
+			}
+			for (Trigger trigger : added) {
+				if (trigger.getEvent() instanceof ScriptCommand event && event.command != null)
+					event.command.setTrigger(null, trigger);
+			}
+		}
+	};
 
 	public static List<Trigger> getTriggersList() {
 		return triggers.getTriggers();
@@ -63,10 +78,14 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 
 		private final CommandRegistrar<T> registrar;
 		private final CommandContext<T> context;
+		private final Object[] arguments;
+		private final Command command;
 		private int returnCode = 0;
 
-		public ScrollCommandContext(CommandContext<T> context, CommandRegistrar<T> registrar) {
+		public ScrollCommandContext(CommandContext<T> context, CommandRegistrar<T> registrar, Command command) {
+			this.arguments = new Object[command.getParameters().size()];
 			this.registrar = registrar;
+			this.command = command;
 			this.context = context;
 		}
 
@@ -74,6 +93,33 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 			return context;
 		}
 
+		/**
+		 * @return The {@link Command} being executed.
+		 */
+		public Command getCommand() {
+			return command;
+		}
+
+		/**
+		 * The argument frame of this execution. Each slot holds the value of the {@link CommandParameter} at the same index
+		 * of {@link Command#getParameters()}, or null if an optional parameter was not provided.
+		 * Plural parameters hold an array of their values.
+		 * 
+		 * @return The argument values of this execution.
+		 */
+		public Object[] getArguments() {
+			return arguments;
+		}
+
+		/**
+		 * @param slot The index of the parameter.
+		 * @return The value of the argument at the slot, null if it was not provided.
+		 */
+		@Nullable
+		public Object getArgument(int slot) {
+			return arguments[slot];
+		}
+
 		/**
 		 * @return the registrar for either the Server or Client.
 		 */
@@ -130,6 +176,7 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 
 	@Override
 	public List<Statement> loadSection(FileSection section, ParserState parserState, SkriptLogger logger) {
+		initSource(section);
 		configuration.loadConfiguration(null, section, parserState, logger);
 		configuration.getStringList("aliases").ifPresent(list -> Arrays.stream(list).forEach(aliases -> this.aliases.add(aliases)));
 		configuration.getValue("permission message", Text.class).ifPresent(permissionMessage -> this.permissionMessage = permissionMessage);
@@ -150,7 +197,8 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 		assert parseContext.getMatches().size() > 0;
 		String[] split = parseContext.getMatches().get(0).group().split(" ", 2);
 		String commandName = split[0];
-		if (CommandManager.contains(commandName)) {
+		// The previous version of this script keeps its commands registered until this version is published.
+		if (CommandManager.contains(commandName, ScrollLoader.getCurrentSession())) {
 			error(parseContext, node("scripts.commands.register.exists", commandName));
 			return false;
 		}
@@ -178,7 +226,7 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 				Map<Type, Integer> occurances = new HashMap<>();
 				ARGUMENTS_PATTERN.matcher(string).results()
 						.map(MatchResult::group)
-						.map(CommandParameter::parse)
+						.map(input -> CommandParameter.parse(input, client))
 						.forEach(parameter -> {
 							parameters.add(parameter);
 							PatternType<?> patternType = parameter.getPatternType();
@@ -231,23 +279,11 @@ public class ScriptCommand extends ScrollEvent implements Languaged {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean check(TriggerContext context) {
 		if (!(context instanceof ScrollCommandContext))
 			return false;
-		ScrollCommandContext<?> scrollCommandContext = (ScrollCommandContext<?>) context;
-		CommandContext<CommandSource> commandContext = (CommandContext<CommandSource>) scrollCommandContext.getCommandContext();
-		for (CommandParameter<?> argument : command.getParameters()) {
-			if (!argument.isOptional()) { // Check for required arguments.
-				try {
-					commandContext.getArgument(argument.getIdentifier(), Text.class);
-				} catch (IllegalArgumentException incorrect) {
-					scrollCommandContext.sendFeedback(commandContext.getSource(), permissionMessage);
-					return false;
-				}
-			}
-		}
-		return scrollCommandContext.getReturnCode() >= 0;
+		// Required parameters are enforced by the Brigadier argument chain, the command only executes once they are present.
+		return ((ScrollCommandContext<?>) context).getReturnCode() >= 0;
 	}
 
 	@Override
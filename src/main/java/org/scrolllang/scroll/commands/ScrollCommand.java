@@ -5,14 +5,23 @@ import static net.minecraft.server.command.CommandManager.argument;
 import static net.minecraft.server.command.CommandManager.literal;
 
 import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.ScrollLoader;
 import org.scrolllang.scroll.language.Languaged;
+import org.scrolllang.scroll.scheduler.TickScheduler;
 import org.scrolllang.scroll.script.Script;
+import org.scrolllang.scroll.timings.Timing;
+import org.scrolllang.scroll.timings.Timings;
 
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -21,10 +30,14 @@ import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 
+import io.github.syst3ms.skriptparser.lang.Trigger;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.minecraft.command.CommandSource;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.command.CommandManager.RegistrationEnvironment;
+import net.minecraft.text.Text;
 
 /**
  * The main command class for handling the /scroll command.
@@ -34,6 +47,12 @@ public class ScrollCommand implements Languaged {
 	private static final boolean REMOVE_DISABLED_PREFIX = Scroll.CONFIGURATION.getCommandSection().getBoolean("scroll.commands.remove-disabled-prefix", () -> false);
 	private static final boolean HIDE_EXTENSIONS = Scroll.CONFIGURATION.getCommandSection().getBoolean("scroll.commands.hide-extensions", () -> true);
 	private static final int PERMISSION_LEVEL = (int) Scroll.CONFIGURATION.getCommandSection().getLong("scroll.commands.permission-level", () -> 4);
+	private static final int TIMINGS_REPORT_SIZE = 10;
+
+	/**
+	 * The arguments of /sc reload that are not script names.
+	 */
+	private static final List<String> RELOAD_KEYWORDS = List.of("all", "configuration", "languages");
 
 	private static final SuggestionProvider<ServerCommandSource> RELOAD_SUGGESTS = new SuggestionProvider<ServerCommandSource>() {
 		@Override
@@ -82,19 +101,19 @@ public class ScrollCommand implements Languaged {
 												context.getSource().sendMessage(Scroll.adventure("scroll.reload.failed", Scroll.LANGUAGE.getLanguage() + ".properties"));
 											}
 											break;
+										case "all":
+											List<Path> paths = ScrollLoader.collectScriptsAt(ScrollLoader.getScriptsFolder()).toList();
+											List<Script> removed = ScrollLoader.unloadScriptsNotIn(paths);
+											if (!removed.isEmpty())
+												context.getSource().sendMessage(Scroll.adventure("scripts.reload.unloaded", removed.size()));
+											reload(context.getSource(), paths);
+											break;
 										default:
 											Optional<Script> script = ScrollLoader.getScriptByName(argument);
-											try {
-												if (!script.isPresent()) {
-													context.getSource().sendMessage(Scroll.adventure("scripts.doesnt.exist", argument));
-												} else if (ScrollLoader.reloadScript(script.get()).isPresent()) {
-													context.getSource().sendMessage(Scroll.adventure("scripts.reload.success", argument));
-												} else {
-													context.getSource().sendMessage(Scroll.adventure("scripts.reload.failed", argument));
-												}
-											} catch (Exception e) {
-												Scroll.LOGGER.info("There was an error");
-												Scroll.getInstance().printException(e);
+											if (!script.isPresent()) {
+												context.getSource().sendMessage(Scroll.adventure("scripts.doesnt.exist", argument));
+											} else {
+												reload(context.getSource(), List.of(script.get().getPath()));
 											}
 											break;
 									}
@@ -130,6 +149,26 @@ public class ScrollCommand implements Languaged {
 										}
 										return 0;
 									})))
+						.then(literal("timings")
+							.then(literal("on").executes(context -> {
+								Timings.setEnabled(true);
+								context.getSource().sendMessage(Scroll.adventure("scroll.timings.enabled"));
+								return 0;
+							}))
+							.then(literal("off").executes(context -> {
+								Timings.setEnabled(false);
+								context.getSource().sendMessage(Scroll.adventure("scroll.timings.disabled"));
+								return 0;
+							}))
+							.then(literal("reset").executes(context -> {
+								Timings.reset();
+								context.getSource().sendMessage(Scroll.adventure("scroll.timings.reset"));
+								return 0;
+							}))
+							.then(literal("report").executes(context -> {
+								timings(context.getSource());
+								return 0;
+							})))
 						);
 				dispatcher.register(literal("scroll").executes(ScrollCommand::noArguments).redirect(scroll));
 			});
@@ -148,6 +187,76 @@ public class ScrollCommand implements Languaged {
 		return 0;
 	}
 
+	/**
+	 * Reloads the scripts on the parse executor, so the server thread does not wait for the parse.
+	 * Progress and the result are sent to the source on the server thread as the scripts complete.
+	 * 
+	 * @param source The source that executed the reload.
+	 * @param paths The paths of the scripts to reload.
+	 */
+	private static void reload(ServerCommandSource source, List<Path> paths) {
+		MinecraftServer server = source.getServer();
+		int total = paths.size();
+		long start = System.nanoTime();
+		AtomicInteger done = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		source.sendMessage(Scroll.adventure("scripts.reload.started", total));
+		ScrollLoader.loadScriptsAsync(paths, (task, script) -> {
+			int progress = done.incrementAndGet();
+			if (script.isEmpty())
+				failed.incrementAndGet();
+			Long time = task.getParseTime(TimeUnit.MILLISECONDS);
+			server.execute(() -> {
+				if (script.isPresent()) {
+					source.sendMessage(Scroll.adventure("scripts.reload.progress", progress, total, task.getName(), time == null ? 0 : time));
+				} else {
+					source.sendMessage(Scroll.adventure("scripts.reload.progress.failed", progress, total, task.getName()));
+				}
+			});
+		}).whenComplete((scripts, throwable) -> {
+			long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			if (throwable != null)
+				Scroll.getInstance().printException(throwable);
+			server.execute(() -> source.sendMessage(Scroll.adventure("scripts.reload.summary", total - failed.get(), total, time, failed.get())));
+		});
+	}
+
+	/**
+	 * Sends the slowest triggers and statements recorded by {@link Timings}.
+	 * 
+	 * @param source The source that requested the report.
+	 */
+	private static void timings(ServerCommandSource source) {
+		TickScheduler scheduler = Scroll.getScheduler();
+		source.sendMessage(Scroll.adventure("scroll.timings.report.scheduler", scheduler.getScheduledTasks(), scheduler.getDueTasks(),
+				scheduler.getExecutedTasks(), scheduler.getAverageLag(), scheduler.getMaxLag()));
+		List<Timing> triggers = Timings.getTriggerTimings();
+		if (triggers.isEmpty()) {
+			source.sendMessage(Scroll.adventure("scroll.timings.report.empty"));
+			return;
+		}
+		Map<Trigger, String> scripts = new IdentityHashMap<>();
+		for (Script script : ScrollLoader.getLoadedScripts())
+			script.getTriggers().values().forEach(owned -> owned.forEach(trigger -> scripts.put(trigger, script.getFileName())));
+		source.sendMessage(Scroll.adventure("scroll.timings.report.header", Timings.getRecordingTime(TimeUnit.SECONDS), Timings.isEnabled() ? "on" : "off"));
+		source.sendMessage(Scroll.adventure("scroll.timings.report.triggers"));
+		triggers.stream().limit(TIMINGS_REPORT_SIZE).forEach(timing -> source.sendMessage(timing(timing, scripts)));
+		source.sendMessage(Scroll.adventure("scroll.timings.report.statements"));
+		Timings.getStatementTimings().stream().limit(TIMINGS_REPORT_SIZE).forEach(timing -> source.sendMessage(timing(timing, scripts)));
+	}
+
+	private static Text timing(Timing timing, Map<Trigger, String> scripts) {
+		String script = scripts.getOrDefault(timing.getTrigger(), Scroll.languageFormat("scroll.timings.report.unloaded"));
+		return Scroll.adventure("scroll.timings.report.entry",
+				MiniMessage.miniMessage().escapeTags(timing.getName()),
+				script,
+				timing.getCalls(),
+				timing.getTotalTime(TimeUnit.MICROSECONDS) / 1000D,
+				timing.getAverageTime(TimeUnit.NANOSECONDS) / 1000D,
+				timing.getMaxTime(TimeUnit.MICROSECONDS) / 1000D,
+				timing.getAllocatedBytes() / 1024);
+	}
+
 	private static Stream<String> collectDisabledScripts() {
 		Stream<String> stream = ScrollLoader.collectScriptsAt(ScrollLoader.getScriptsFolder(), path -> path.getFileName().toString().startsWith(ScrollLoader.DISABLED_PREFIX))
 				.map(Path::getFileName)
@@ -163,12 +272,18 @@ public class ScrollCommand implements Languaged {
 
 	private static Stream<String> collectScripts() {
 		if (HIDE_EXTENSIONS)
-			return ScrollLoader.getLoadedScripts().stream().map(Script::getSimpleName);
-		return ScrollLoader.getLoadedScripts().stream().map(Script::getFileName);
+			return ScrollLoader.getScriptRegistry().getSimpleNames().stream();
+		return ScrollLoader.getScriptRegistry().getFileNames().stream();
 	}
 
 	private static Stream<String> collectReload() {
-		return Stream.concat(collectScripts(), Stream.of("configuration", "languages"));
+		// A script named like a keyword is suggested with its extension, the file name still reloads it.
+		Stream<String> scripts = ScrollLoader.getScriptRegistry().getScripts().stream()
+				.map(script -> {
+					boolean keyword = RELOAD_KEYWORDS.contains(script.getSimpleName().toLowerCase(Locale.ROOT));
+					return HIDE_EXTENSIONS && !keyword ? script.getSimpleName() : script.getFileName();
+				});
+		return Stream.concat(scripts, RELOAD_KEYWORDS.stream());
 	}
 
 }
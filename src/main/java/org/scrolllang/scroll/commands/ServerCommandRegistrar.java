@@ -1,18 +1,14 @@
 package org.scrolllang.scroll.commands;
 
-import static net.minecraft.server.command.CommandManager.*;
-
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.commands.ScriptCommand.ScrollCommandContext;
-import org.scrolllang.scroll.commands.arguments.CommandParameter;
 
-import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.tree.RootCommandNode;
 
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
-import net.minecraft.command.argument.TextArgumentType;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.PlayerManager;
 import net.minecraft.server.command.CommandManager.RegistrationEnvironment;
 import net.minecraft.server.command.ServerCommandSource;
@@ -40,7 +36,7 @@ public class ServerCommandRegistrar implements CommandRegistrar<ServerCommandSou
 			com.mojang.brigadier.Command<ServerCommandSource> execute = new com.mojang.brigadier.Command<>() {
 				@Override
 				public int run(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
-					ScrollCommandContext<ServerCommandSource> commandContext = new ScriptCommand.ScrollCommandContext<ServerCommandSource>(context, registrar);
+					ScrollCommandContext<ServerCommandSource> commandContext = new ScriptCommand.ScrollCommandContext<ServerCommandSource>(context, registrar, command);
 					if (environment == RegistrationEnvironment.DEDICATED) { // Only permission checks on the server.
 						ServerCommandSource source = context.getSource();
 						if (command.getPermission() >= 0 && !source.hasPermissionLevel(command.getPermission())) {
@@ -50,24 +46,22 @@ public class ServerCommandRegistrar implements CommandRegistrar<ServerCommandSou
 					}
 					command.fill(commandContext);
 					// We still want to call the command context even if the command will be cancelled represented by a negative number. ScriptCommand handles not calling the trigger.
-					ScriptCommand.runTriggers(ScriptCommand.getTriggersList(), commandContext);
+					ScriptCommand.runTrigger(command.getTrigger(), commandContext);
 					return commandContext.getReturnCode();
 				}
 			};
-			LiteralArgumentBuilder<ServerCommandSource> mainNode = literal(command.getName());
-			if (!command.getParameters().isEmpty()) {
-				for (CommandParameter<?> argument : command.getParameters()) {
-					mainNode.then(argument(argument.getIdentifier(), TextArgumentType.text(registryAccess)).executes(execute));
-				}
-			}
-			dispatcher.register(mainNode.executes(execute));
+			register(dispatcher, command, registryAccess, execute);
 		});
 	}
 
 	@Override
 	public void unregister(Command command) {
-		remover.removeCommand(command, root);
-		PlayerManager playerManager = Scroll.getMinecraftServer().getPlayerManager();
+		if (root != null)
+			remover.removeCommand(command, root);
+		MinecraftServer server = Scroll.getMinecraftServer();
+		if (server == null) // Not started yet or already stopped, there are no players to update.
+			return;
+		PlayerManager playerManager = server.getPlayerManager();
 		for (ServerPlayerEntity player : playerManager.getPlayerList())
 			playerManager.sendCommandTree(player);
 	}
@@ -0,0 +1,294 @@
+package org.scrolllang.scroll.commands.arguments;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.objects.Location;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+
+import io.github.syst3ms.skriptparser.types.PatternType;
+import net.minecraft.block.Block;
+import net.minecraft.command.CommandRegistryAccess;
+import net.minecraft.command.argument.BlockPosArgumentType;
+import net.minecraft.command.argument.BlockStateArgument;
+import net.minecraft.command.argument.BlockStateArgumentType;
+import net.minecraft.command.argument.EntityArgumentType;
+import net.minecraft.command.argument.ItemStackArgument;
+import net.minecraft.command.argument.ItemStackArgumentType;
+import net.minecraft.command.argument.TextArgumentType;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Maps the types of {@link CommandParameter}s to native Brigadier argument types.
+ * <p>
+ * The client parses and validates native arguments while typing, and the values are read back from the
+ * {@link CommandContext} already typed. Types without a native argument type fall back to a string argument
+ * that is converted with the literal parser of the type when the command runs.
+ */
+public enum CommandArgumentType {
+
+	INTEGER(BigInteger.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return LongArgumentType.longArg();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return BigInteger.valueOf(LongArgumentType.getLong(context, parameter.getIdentifier()));
+		}
+	},
+	NUMBER(Number.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return DoubleArgumentType.doubleArg();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			// Same as the number literals of scripts, whole numbers are integers.
+			double value = DoubleArgumentType.getDouble(context, parameter.getIdentifier());
+			if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE)
+				return BigInteger.valueOf((long) value);
+			return BigDecimal.valueOf(value);
+		}
+	},
+	BOOLEAN(Boolean.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return BoolArgumentType.bool();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return BoolArgumentType.getBool(context, parameter.getIdentifier());
+		}
+	},
+	STRING(String.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return last ? StringArgumentType.greedyString() : StringArgumentType.word();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return StringArgumentType.getString(context, parameter.getIdentifier());
+		}
+	},
+	TEXT(Text.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return TextArgumentType.text(registryAccess);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return context.getArgument(parameter.getIdentifier(), Text.class);
+		}
+	},
+	PLAYER(ServerPlayerEntity.class, false) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return single ? EntityArgumentType.player() : EntityArgumentType.players();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			if (parameter.getPatternType().isSingle())
+				return EntityArgumentType.getPlayer(server(context), parameter.getIdentifier());
+			return EntityArgumentType.getPlayers(server(context), parameter.getIdentifier()).toArray(ServerPlayerEntity[]::new);
+		}
+	},
+	PLAYER_ENTITY(PlayerEntity.class, false) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return PLAYER.create(registryAccess, single, last);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			return PLAYER.read(context, parameter);
+		}
+	},
+	LIVING_ENTITY(LivingEntity.class, false) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return ENTITY.create(registryAccess, single, last);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			if (parameter.getPatternType().isSingle()) {
+				Entity entity = EntityArgumentType.getEntity(server(context), parameter.getIdentifier());
+				if (!(entity instanceof LivingEntity))
+					throw invalid(entity.getName().getString(), parameter);
+				return entity;
+			}
+			return EntityArgumentType.getEntities(server(context), parameter.getIdentifier()).stream()
+					.filter(LivingEntity.class::isInstance)
+					.toArray(LivingEntity[]::new);
+		}
+	},
+	ENTITY(Entity.class, false) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return single ? EntityArgumentType.entity() : EntityArgumentType.entities();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			if (parameter.getPatternType().isSingle())
+				return EntityArgumentType.getEntity(server(context), parameter.getIdentifier());
+			Collection<? extends Entity> entities = EntityArgumentType.getEntities(server(context), parameter.getIdentifier());
+			return entities.toArray(Entity[]::new);
+		}
+	},
+	LOCATION(Location.class, false) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return BlockPosArgumentType.blockPos();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			ServerCommandSource source = server(context).getSource();
+			Vec3d vector = Vec3d.ofBottomCenter(BlockPosArgumentType.getBlockPos(server(context), parameter.getIdentifier()));
+			return new Location(vector, source.getWorld());
+		}
+	},
+	ITEM_STACK(ItemStack.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return ItemStackArgumentType.itemStack(registryAccess);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			return context.getArgument(parameter.getIdentifier(), ItemStackArgument.class).createStack(1, false);
+		}
+	},
+	ITEM(Item.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return ItemStackArgumentType.itemStack(registryAccess);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return context.getArgument(parameter.getIdentifier(), ItemStackArgument.class).getItem();
+		}
+	},
+	BLOCK(Block.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return BlockStateArgumentType.blockState(registryAccess);
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) {
+			return context.getArgument(parameter.getIdentifier(), BlockStateArgument.class).getBlockState().getBlock();
+		}
+	},
+	/**
+	 * Any other type with a literal parser. Read as a string and parsed when the command runs.
+	 */
+	LITERAL(Object.class, true) {
+		@Override
+		ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last) {
+			return last ? StringArgumentType.greedyString() : StringArgumentType.string();
+		}
+
+		@Override
+		Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException {
+			String input = StringArgumentType.getString(context, parameter.getIdentifier());
+			Object value = parameter.getPatternType().getType().getLiteralParser()
+					.map(parser -> parser.apply(input))
+					.orElse(null);
+			if (value == null)
+				throw invalid(input, parameter);
+			return value;
+		}
+	};
+
+	private final Class<?> typeClass;
+	private final boolean client;
+
+	CommandArgumentType(Class<?> typeClass, boolean client) {
+		this.typeClass = typeClass;
+		this.client = client;
+	}
+
+	/**
+	 * @return true if this argument type can be read on the client. Entity selectors and positions need a server source.
+	 */
+	public boolean isClientSupported() {
+		return client;
+	}
+
+	/**
+	 * Creates the Brigadier argument type of a parameter.
+	 *
+	 * @param registryAccess The registries of the command dispatcher.
+	 * @param single If the parameter accepts a single value.
+	 * @param last If the parameter is the last of the command, so it may consume the rest of the input.
+	 * @return The Brigadier {@link ArgumentType}.
+	 */
+	abstract ArgumentType<?> create(CommandRegistryAccess registryAccess, boolean single, boolean last);
+
+	/**
+	 * Reads the value of a parameter from an executing command.
+	 *
+	 * @param context The Brigadier context of the executing command.
+	 * @param parameter The parameter to read.
+	 * @return The value, or an array of the values if the parameter is plural.
+	 * @throws CommandSyntaxException if the input does not resolve to a value of the type.
+	 * @throws IllegalArgumentException if the argument was not provided.
+	 */
+	abstract Object read(CommandContext<?> context, CommandParameter<?> parameter) throws CommandSyntaxException;
+
+	/**
+	 * @param type The type of a parameter.
+	 * @return The native argument type for the type, if there is one.
+	 */
+	public static Optional<CommandArgumentType> of(PatternType<?> type) {
+		Class<?> typeClass = type.getType().getTypeClass();
+		for (CommandArgumentType argumentType : values()) {
+			if (argumentType != LITERAL && argumentType.typeClass == typeClass)
+				return Optional.of(argumentType);
+		}
+		if (type.getType().getLiteralParser().isPresent())
+			return Optional.of(LITERAL);
+		return Optional.empty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static CommandContext<ServerCommandSource> server(CommandContext<?> context) {
+		return (CommandContext<ServerCommandSource>) context;
+	}
+
+	private static CommandSyntaxException invalid(@Nullable String input, CommandParameter<?> parameter) {
+		String message = Scroll.languageFormat("scripts.commands.arguments.invalid", input, parameter.getPatternType().getType().getBaseName());
+		return new SimpleCommandExceptionType(Text.literal(message)).create();
+	}
+
+}
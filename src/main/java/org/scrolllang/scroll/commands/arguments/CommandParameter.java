@@ -1,23 +1,31 @@
 package org.scrolllang.scroll.commands.arguments;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.exceptions.ScrollAPIException;
 
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
 import io.github.syst3ms.skriptparser.types.PatternType;
 import io.github.syst3ms.skriptparser.types.TypeManager;
 import io.github.syst3ms.skriptparser.util.StringUtils;
+import net.minecraft.command.CommandRegistryAccess;
 
 public class CommandParameter<T> {
 
+	private final CommandArgumentType argumentType;
 	private final PatternType<T> type;
 	private final String identifier;
 	private final boolean optional;
 	private int index;
 
-	protected CommandParameter(PatternType<T> type, @Nullable String identifier, boolean optional) {
+	protected CommandParameter(PatternType<T> type, CommandArgumentType argumentType, @Nullable String identifier, boolean optional) {
+		this.argumentType = argumentType;
 		this.identifier = identifier;
 		this.optional = optional;
 		this.type = type;
@@ -27,10 +35,11 @@ public class CommandParameter<T> {
 	 * Parses user input as a Parameter.
 	 * 
 	 * @param input The user input used in a command strucutre.
+	 * @param client If the command is registered on the client.
 	 * @return The parsed Parameter based on the user input.
 	 * @throws ScrollAPIException if there is no type for the user input. Used for catching in the command structure.
 	 */
-	public static CommandParameter<?> parse(String input) throws ScrollAPIException {
+	public static CommandParameter<?> parse(String input, boolean client) throws ScrollAPIException {
 		boolean optional = false;
 		if (input.startsWith("[") && input.endsWith("]")) {
 			input = StringUtils.getEnclosedText(input, '[', ']', 0).orElse(input);
@@ -48,9 +57,43 @@ public class CommandParameter<T> {
 		Optional<PatternType<?>> type = TypeManager.getPatternType(typeInput);
 		if (!type.isPresent())
 			throw new ScrollAPIException(Scroll.languageFormat("scripts.commands.register.parameters.no.type", typeInput, input));
-		if (!type.get().getType().getLiteralParser().isPresent())
+		Optional<CommandArgumentType> argumentType = CommandArgumentType.of(type.get());
+		if (!argumentType.isPresent())
 			throw new ScrollAPIException(Scroll.languageFormat("scripts.commands.register.parameters.no.parser", typeInput));
-		return new CommandParameter<>(type.get(), identifier, optional);
+		if (client && !argumentType.get().isClientSupported())
+			throw new ScrollAPIException(Scroll.languageFormat("scripts.commands.register.parameters.client", typeInput));
+		return new CommandParameter<>(type.get(), argumentType.get(), identifier, optional);
+	}
+
+	/**
+	 * Finds a parameter by its type, for expressions like "the 2nd player argument".
+	 * 
+	 * @param parameters The parameters of a command, in order.
+	 * @param typeClass The class of the type of the parameter.
+	 * @param nth Which parameter of the type to find, starting at 1.
+	 * @return The index of the parameter, or -1 if the command has fewer parameters of the type.
+	 */
+	public static int indexOf(List<CommandParameter<?>> parameters, Class<?> typeClass, int nth) {
+		for (int i = 0; i < parameters.size(); i++) {
+			if (parameters.get(i).getPatternType().getType().getTypeClass().equals(typeClass) && --nth == 0)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds a parameter by its identifier, ignoring case.
+	 * 
+	 * @param parameters The parameters of a command, in order.
+	 * @param identifier The identifier of the parameter.
+	 * @return The index of the parameter, or -1 if no parameter has the identifier.
+	 */
+	public static int indexOf(List<CommandParameter<?>> parameters, String identifier) {
+		for (int i = 0; i < parameters.size(); i++) {
+			if (parameters.get(i).getIdentifier().equalsIgnoreCase(identifier))
+				return i;
+		}
+		return -1;
 	}
 
 	/**
@@ -60,6 +103,40 @@ public class CommandParameter<T> {
 		return type;
 	}
 
+	/**
+	 * @return The native Brigadier argument type this parameter is registered as.
+	 */
+	public CommandArgumentType getArgumentType() {
+		return argumentType;
+	}
+
+	/**
+	 * Creates the Brigadier argument type of this parameter.
+	 * 
+	 * @param registryAccess The registries of the command dispatcher.
+	 * @param last If this is the last parameter of the command.
+	 * @return The Brigadier {@link ArgumentType} to register this parameter as.
+	 */
+	public ArgumentType<?> createArgumentType(CommandRegistryAccess registryAccess, boolean last) {
+		return argumentType.create(registryAccess, type.isSingle(), last);
+	}
+
+	/**
+	 * Reads the typed value of this parameter from an executing command.
+	 * 
+	 * @param context The Brigadier context of the executing command.
+	 * @return The value, an array of values if this parameter is plural, or null if the optional parameter was not provided.
+	 * @throws CommandSyntaxException if the input does not resolve to a value of the type.
+	 */
+	@Nullable
+	public Object getValue(CommandContext<?> context) throws CommandSyntaxException {
+		try {
+			return argumentType.read(context, this);
+		} catch (IllegalArgumentException missing) {
+			return null;
+		}
+	}
+
 	/**
 	 * @return The identifier used to collect this parameter.
 	 */
@@ -2,20 +2,22 @@ package org.scrolllang.scroll.elements;
 
 import java.util.Locale;
 
+import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.objects.Location;
 
 import io.github.syst3ms.skriptparser.registration.SkriptRegistration;
 import net.kyori.adventure.platform.modcommon.MinecraftAudiences;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.minecraft.block.Block;
 import net.minecraft.command.CommandSource;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.registry.Registries;
-import net.minecraft.registry.Registry;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
@@ -74,21 +76,45 @@ public class Types {
 
 		registration.newType(Item.class, "item", "item@s")
 				.literalParser(input -> {
-					input = input.replaceAll("\s", "_").toUpperCase(Locale.ENGLISH);
-					Identifier identifier;
-					if (!input.contains(":")) {
-						identifier = Identifier.of("minecraft", input);
-					} else {
-						String[] parts = input.split(":");
-						identifier = Identifier.of(parts[0], parts[1]);
-					}
-					Registry<Item> itemRegistry = Registries.ITEM;
-					if (!itemRegistry.containsId(identifier))
+					Identifier identifier = identifier(input);
+					if (identifier == null || !Registries.ITEM.containsId(identifier))
 						return null;
-					return itemRegistry.get(identifier);
+					return Registries.ITEM.get(identifier);
 				})
 				.toStringFunction(item -> Registries.ITEM.getId(item).getNamespace())
 				.register();
+
+		registration.newType(Block.class, "blocktype", "blockType@s")
+				.literalParser(input -> {
+					Identifier identifier = identifier(input);
+					if (identifier == null || !Registries.BLOCK.containsId(identifier))
+						return null;
+					return Registries.BLOCK.get(identifier);
+				})
+				.toStringFunction(block -> Registries.BLOCK.getId(block).toString())
+				.register();
+
+		registration.newType(EntityType.class, "entitytype", "entityType@s")
+				.literalParser(input -> {
+					Identifier identifier = identifier(input);
+					if (identifier == null || !Registries.ENTITY_TYPE.containsId(identifier))
+						return null;
+					return Registries.ENTITY_TYPE.get(identifier);
+				})
+				.toStringFunction(type -> Registries.ENTITY_TYPE.getId(type).toString())
+				.register();
+	}
+
+	/**
+	 * Parses a registry identifier as written in scripts, such as "oak door" or "minecraft:oak_door".
+	 * 
+	 * @param input The input from the script.
+	 * @return The identifier, or null if the input is not a valid identifier.
+	 */
+	@Nullable
+	private static Identifier identifier(String input) {
+		// Identifiers are lower case, so "Oak Door" in a script still resolves.
+		return Identifier.tryParse(input.trim().replaceAll("\\s+", "_").toLowerCase(Locale.ENGLISH));
 	}
 
 }
@@ -45,6 +45,10 @@ public class EffBroadcast extends Effect implements Languaged {
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (isAsync(parseContext)) {
+			error(parseContext, node("syntaxes.async.main.thread", "broadcast"));
+			return false;
+		}
 		objects = expressions[0];
 		if (expressions.length > 1)
 			worlds = (Expression<ServerWorld>) expressions[1];
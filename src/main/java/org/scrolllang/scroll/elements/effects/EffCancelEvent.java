@@ -33,6 +33,10 @@ public class EffCancelEvent extends Effect implements Languaged {
 	@Override
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
 		cancel = matchedPattern == 0;
+		if (isAsync(parseContext)) {
+			error(parseContext, node("syntaxes.async.main.thread", (cancel ? "" : "un") + "cancel event"));
+			return false;
+		}
 		Set<Class<? extends TriggerContext>> contexts = parseContext.getParserState().getCurrentContexts();
 		if (contexts == null)
 			return false;
@@ -5,6 +5,7 @@ import org.scrolllang.scroll.documentation.annotations.Description;
 import org.scrolllang.scroll.documentation.annotations.Examples;
 import org.scrolllang.scroll.documentation.annotations.Name;
 import org.scrolllang.scroll.documentation.annotations.Since;
+import org.scrolllang.scroll.language.Languaged;
 import org.scrolllang.scroll.objects.Location;
 
 import io.github.syst3ms.skriptparser.lang.Effect;
@@ -23,7 +24,7 @@ import net.minecraft.world.World;
 		"\tdrop 1 TNT"
 })
 @Since("1.0.0")
-public class EffDrop extends Effect {
+public class EffDrop extends Effect implements Languaged {
 
 	static {
 		if (Scroll.isServerEnvironment())
@@ -37,6 +38,10 @@ public class EffDrop extends Effect {
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (isAsync(parseContext)) {
+			error(parseContext, node("syntaxes.async.main.thread", "drop"));
+			return false;
+		}
 		items = (Expression<ItemStack>) expressions[0];
 		locations = (Expression<Location>) expressions[1];
 		velocity = !parseContext.hasMark("without");
@@ -0,0 +1,92 @@
+package org.scrolllang.scroll.elements.effects;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.documentation.annotations.Description;
+import org.scrolllang.scroll.documentation.annotations.Examples;
+import org.scrolllang.scroll.documentation.annotations.Name;
+import org.scrolllang.scroll.documentation.annotations.Since;
+import org.scrolllang.scroll.language.Languaged;
+import org.scrolllang.scroll.language.ScrollEvent;
+
+import io.github.syst3ms.skriptparser.lang.CodeSection;
+import io.github.syst3ms.skriptparser.lang.Effect;
+import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Statement;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+import io.github.syst3ms.skriptparser.parsing.ParseContext;
+
+@Name("Wait")
+@Description({
+	"Pauses the trigger for an amount of server ticks, the rest of the trigger continues on a later tick.",
+	"The event has already finished by then, so the rest of the trigger cannot cancel it anymore."
+})
+@Examples({
+	"on right click on a block:",
+		"\twait 20 ticks",
+		"\tbroadcast \"A second ago, a block was clicked.\""
+})
+@Since("1.0.0")
+public class EffWait extends Effect implements Languaged {
+
+	static {
+		Scroll.getRegistration().addEffect(EffWait.class, "wait [for] %number% [server] tick[s]", "wait [for] [a|the next] [server] tick");
+	}
+
+	@Nullable
+	private Expression<Number> ticks;
+	private boolean async;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (matchedPattern == 0)
+			ticks = (Expression<Number>) expressions[0];
+		async = isAsync(parseContext);
+		return true;
+	}
+
+	@Override
+	protected void execute(TriggerContext context) {}
+
+	@Override
+	public Optional<? extends Statement> walk(TriggerContext context) {
+		long ticks = this.ticks == null ? 1 : this.ticks.getSingle(context).map(Number::longValue).orElse(0L);
+		Optional<? extends Statement> next = getNext();
+		if (ticks <= 0 || next.isEmpty())
+			return next;
+		if (async) {
+			// Async triggers run on their own virtual thread, which can simply sleep.
+			try {
+				Thread.sleep(ticks * 50);
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+			return next;
+		}
+		Trigger trigger = getTrigger();
+		if (trigger == null)
+			return next;
+		// The rest of the trigger continues from the scheduler.
+		ScrollEvent.resume(trigger, next.get(), context, ticks);
+		return Optional.empty();
+	}
+
+	@Nullable
+	private Trigger getTrigger() {
+		CodeSection parent = getParent();
+		while (parent != null && !(parent instanceof Trigger))
+			parent = parent.getParent();
+		return (Trigger) parent;
+	}
+
+	@Override
+	public String toString(TriggerContext context, boolean debug) {
+		return "wait " + (ticks == null ? "a" : ticks.toString(context, debug)) + " ticks";
+	}
+
+}
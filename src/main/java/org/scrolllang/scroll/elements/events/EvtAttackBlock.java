@@ -1,5 +1,6 @@
 package org.scrolllang.scroll.elements.events;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -15,10 +16,12 @@ import org.scrolllang.scroll.language.ScrollEvent;
 import org.scrolllang.scroll.language.ScrollTriggerList;
 
 import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.lang.TriggerContext;
 import io.github.syst3ms.skriptparser.parsing.ParseContext;
 import net.fabricmc.fabric.api.event.player.AttackBlockCallback;
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
@@ -49,7 +52,7 @@ import net.minecraft.world.World;
 public class EvtAttackBlock extends ScrollEvent {
 
 	// Required Context triggers methods. Start.
-	private final static ScrollTriggerList triggers = new ScrollTriggerList();
+	private final static ScrollTriggerList triggers = new ScrollTriggerList(EvtAttackBlock::listen);
 
 	public static List<Trigger> getTriggersList() {
 		return triggers.getTriggers();
@@ -61,6 +64,8 @@ public class EvtAttackBlock extends ScrollEvent {
 	}
 	// Required Context triggers methods. End.
 
+	private Collection<Block> blocks = List.of();
+
 	public static class AttackBlockContext extends RequiredReturnContext<ActionResult> implements PlayerContext, WorldContext, CancellableContext {
 
 		private ActionResult result = ActionResult.PASS;
@@ -124,22 +129,43 @@ public class EvtAttackBlock extends ScrollEvent {
 
 	static {
 		// TODO add support for itemtypes.
-		Scroll.addEvent("left click on/attack block", EvtAttackBlock.class, AttackBlockContext.class, "[player] (attack[ing]|left( |-)[mouse( |-)]click[ing] [on]) [a] block");
+		Scroll.addEvent("left click on/attack block", EvtAttackBlock.class, AttackBlockContext.class, "[player] (attack[ing]|left( |-)[mouse( |-)]click[ing] [on]) ([a] block|%*blocktypes%)");
+	}
+
+	// Only registered once a script handles this event.
+	private static void listen() {
 		AttackBlockCallback.EVENT.register((player, world, hand, position, direction) -> {
+			if (triggers.isEmpty())
+				return ActionResult.PASS;
+			Trigger[] matching = triggers.getSnapshot(world.getBlockState(position).getBlock());
+			if (matching.length == 0)
+				return ActionResult.PASS;
 			AttackBlockContext context = new AttackBlockContext(player, world, hand, position, direction);
-			runTriggers(triggers, context);
+			runTriggers(matching, context);
 			return context.getResult();
 		});
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		initOptions(expressions, parseContext);
+		Expression<?>[] filters = getEventExpressions(expressions, parseContext);
+		if (filters.length > 0 && filters[0] != null)
+			blocks = List.of(((Literal<Block>) filters[0]).getValues());
 		return true;
 	}
 
+	@Override
+	public Collection<?> getFilterKeys() {
+		return blocks;
+	}
+
 	@Override
 	public boolean check(TriggerContext context) {
-		return true;
+		if (blocks.isEmpty())
+			return true;
+		return context instanceof AttackBlockContext attackContext && blocks.contains(attackContext.getWorld().getBlockState(attackContext.getPosition()).getBlock());
 	}
 
 }
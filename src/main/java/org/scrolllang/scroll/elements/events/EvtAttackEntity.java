@@ -1,11 +1,13 @@
 package org.scrolllang.scroll.elements.events;
 
 import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.lang.TriggerContext;
 import io.github.syst3ms.skriptparser.parsing.ParseContext;
 import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
@@ -23,6 +25,7 @@ import org.scrolllang.scroll.documentation.annotations.Since;
 import org.scrolllang.scroll.language.ScrollEvent;
 import org.scrolllang.scroll.language.ScrollTriggerList;
 
+import java.util.Collection;
 import java.util.List;
 
 @Name("Attack/Left Click Entity")
@@ -35,7 +38,7 @@ import java.util.List;
 public class EvtAttackEntity extends ScrollEvent {
 
     // Required Context triggers methods. Start.
-    private final static ScrollTriggerList triggers = new ScrollTriggerList();
+    private final static ScrollTriggerList triggers = new ScrollTriggerList(EvtAttackEntity::listen);
 
     public static List<Trigger> getTriggersList() {
         return triggers.getTriggers();
@@ -47,6 +50,8 @@ public class EvtAttackEntity extends ScrollEvent {
     }
     // Required Context triggers methods. End.
 
+    private Collection<EntityType<?>> types = List.of();
+
     public static class AttackEntityContext extends RequiredReturnContext<ActionResult> implements PlayerContext, WorldContext, CancellableContext {
 
         private ActionResult result = ActionResult.PASS;
@@ -109,21 +114,42 @@ public class EvtAttackEntity extends ScrollEvent {
     }
 
     static {
-        Scroll.addEvent("left click on/attack entity", EvtAttackEntity.class, AttackEntityContext.class, "[player] (attack[ing]|left( |-)[mouse( |-)]click[ing] [on]) [a[n]] entity");
+        Scroll.addEvent("left click on/attack entity", EvtAttackEntity.class, AttackEntityContext.class, "[player] (attack[ing]|left( |-)[mouse( |-)]click[ing] [on]) ([a[n]] entity|%*entitytypes%)");
+    }
+
+    // Only registered once a script handles this event.
+    private static void listen() {
         AttackEntityCallback.EVENT.register((player, world, hand, entity, hitResult) -> {
+            if (triggers.isEmpty())
+                return ActionResult.PASS;
+            Trigger[] matching = triggers.getSnapshot(entity.getType());
+            if (matching.length == 0)
+                return ActionResult.PASS;
             AttackEntityContext context = new AttackEntityContext(player, world, hand, entity, hitResult);
-            runTriggers(triggers, context);
+            runTriggers(matching, context);
             return context.getResult();
         });
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+        initOptions(expressions, parseContext);
+        Expression<?>[] filters = getEventExpressions(expressions, parseContext);
+        if (filters.length > 0 && filters[0] != null)
+            types = List.of(((Literal<EntityType<?>>) filters[0]).getValues());
         return true;
     }
 
+    @Override
+    public Collection<?> getFilterKeys() {
+        return types;
+    }
+
     @Override
     public boolean check(TriggerContext context) {
-        return true;
+        if (types.isEmpty())
+            return true;
+        return context instanceof AttackEntityContext attackContext && types.contains(attackContext.getEntity().getType());
     }
 }
@@ -0,0 +1,133 @@
+package org.scrolllang.scroll.elements.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.context.ScrollContext;
+import org.scrolllang.scroll.documentation.annotations.Description;
+import org.scrolllang.scroll.documentation.annotations.Examples;
+import org.scrolllang.scroll.documentation.annotations.Name;
+import org.scrolllang.scroll.documentation.annotations.Since;
+import org.scrolllang.scroll.language.Languaged;
+import org.scrolllang.scroll.language.ScrollEvent;
+import org.scrolllang.scroll.language.ScrollTriggerList;
+import org.scrolllang.scroll.scheduler.ScheduledTask;
+
+import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+import io.github.syst3ms.skriptparser.parsing.ParseContext;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+
+@Name("Periodical")
+@Description({
+	"Called every given amount of server ticks, while the script is loaded.",
+	"A server tick is 50 milliseconds when the server is not lagging."
+})
+@Examples({
+	"every 20 ticks:",
+		"\tbroadcast \"Another second has passed.\""
+})
+@Since("1.0.0")
+public class EvtPeriodical extends ScrollEvent implements Languaged {
+
+	// Required Context triggers methods. Start.
+	private final static ScrollTriggerList triggers = new ScrollTriggerList() {
+		@Override
+		protected void changed(Collection<Trigger> removed, Collection<Trigger> added) {
+			// Periodical triggers are not fired by Fabric, they schedule themselves while they are in the list.
+			for (Trigger trigger : removed) {
+				if (trigger.getEvent() instanceof EvtPeriodical event)
+					event.stop();
+			}
+			for (Trigger trigger : added) {
+				if (trigger.getEvent() instanceof EvtPeriodical event)
+					event.start(trigger);
+			}
+		}
+	};
+
+	public static List<Trigger> getTriggersList() {
+		return triggers.getTriggers();
+	}
+
+	@Override
+	public @NotNull ScrollTriggerList getTriggers() {
+		return triggers;
+	}
+	// Required Context triggers methods. End.
+
+	public static class PeriodicalContext extends ScrollContext {
+
+		public PeriodicalContext() {
+			super("periodical");
+		}
+
+	}
+
+	static {
+		Scroll.addEvent("periodical", EvtPeriodical.class, PeriodicalContext.class, "*every [%*number%] [server] tick[s]");
+		// The scheduler is cleared when the server stops, scripts stay loaded for the next world of single player.
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+			for (Trigger trigger : triggers.getSnapshot()) {
+				if (trigger.getEvent() instanceof EvtPeriodical event)
+					event.restart(trigger);
+			}
+		});
+	}
+
+	@Nullable
+	private ScheduledTask task;
+	private long period = 1;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (expressions.length > 0 && expressions[0] != null) {
+			Number[] ticks = ((Literal<Number>) expressions[0]).getValues();
+			if (ticks.length > 0)
+				period = ticks[0].longValue();
+		}
+		if (period < 1) {
+			error(parseContext, node("syntaxes.evtperiodical.period", period));
+			return false;
+		}
+		return true;
+	}
+
+	private synchronized void start(Trigger trigger) {
+		if (task != null)
+			return;
+		Trigger[] single = {trigger};
+		task = Scroll.getScheduler().scheduleAtFixedRate(period, period, () -> runTriggers(single, new PeriodicalContext()));
+	}
+
+	private synchronized void restart(Trigger trigger) {
+		if (task != null && !task.isCancelled())
+			return;
+		task = null;
+		start(trigger);
+	}
+
+	private synchronized void stop() {
+		if (task == null)
+			return;
+		task.cancel();
+		task = null;
+	}
+
+	@Override
+	public boolean check(TriggerContext context) {
+		return context instanceof PeriodicalContext;
+	}
+
+	@Override
+	public String toString(TriggerContext context, boolean debug) {
+		return "every " + period + " ticks";
+	}
+
+}
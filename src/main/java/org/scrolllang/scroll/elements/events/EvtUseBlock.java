@@ -1,10 +1,12 @@
 package org.scrolllang.scroll.elements.events;
 
 import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.lang.TriggerContext;
 import io.github.syst3ms.skriptparser.parsing.ParseContext;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
@@ -22,6 +24,7 @@ import org.scrolllang.scroll.documentation.annotations.Since;
 import org.scrolllang.scroll.language.ScrollEvent;
 import org.scrolllang.scroll.language.ScrollTriggerList;
 
+import java.util.Collection;
 import java.util.List;
 
 @Name("Use/Right Click Block")
@@ -34,7 +37,7 @@ import java.util.List;
 public class EvtUseBlock extends ScrollEvent {
 
     // Required Context triggers methods. Start.
-    private final static ScrollTriggerList triggers = new ScrollTriggerList();
+    private final static ScrollTriggerList triggers = new ScrollTriggerList(EvtUseBlock::listen);
 
     public static List<Trigger> getTriggersList() {
         return triggers.getTriggers();
@@ -46,6 +49,8 @@ public class EvtUseBlock extends ScrollEvent {
     }
     // Required Context triggers methods. End.
 
+    private Collection<Block> blocks = List.of();
+
     public static class UseBlockContext extends RequiredReturnContext<ActionResult> implements PlayerContext, WorldContext, CancellableContext {
 
         private ActionResult result = ActionResult.PASS;
@@ -102,21 +107,42 @@ public class EvtUseBlock extends ScrollEvent {
     }
 
     static {
-        Scroll.addEvent("right click on/use block", EvtUseBlock.class, UseBlockContext.class, "[player] (us(e|ing)|left( |-)[mouse( |-)]click[ing] [on]) [a] block");
+        Scroll.addEvent("right click on/use block", EvtUseBlock.class, UseBlockContext.class, "[player] (us(e|ing)|right( |-)[mouse( |-)]click[ing] [on]) ([a] block|%*blocktypes%)");
+    }
+
+    // Only registered once a script handles this event.
+    private static void listen() {
         UseBlockCallback.EVENT.register((player, world, hand, hitResult) -> {
+            if (triggers.isEmpty())
+                return ActionResult.PASS;
+            Trigger[] matching = triggers.getSnapshot(world.getBlockState(hitResult.getBlockPos()).getBlock());
+            if (matching.length == 0)
+                return ActionResult.PASS;
             UseBlockContext context = new UseBlockContext(player, world, hand, hitResult);
-            runTriggers(triggers, context);
+            runTriggers(matching, context);
             return context.getResult();
         });
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+        initOptions(expressions, parseContext);
+        Expression<?>[] filters = getEventExpressions(expressions, parseContext);
+        if (filters.length > 0 && filters[0] != null)
+            blocks = List.of(((Literal<Block>) filters[0]).getValues());
         return true;
     }
 
+    @Override
+    public Collection<?> getFilterKeys() {
+        return blocks;
+    }
+
     @Override
     public boolean check(TriggerContext context) {
-        return true;
+        if (blocks.isEmpty())
+            return true;
+        return context instanceof UseBlockContext useContext && blocks.contains(useContext.getWorld().getBlockState(useContext.getHitResult().getBlockPos()).getBlock());
     }
 }
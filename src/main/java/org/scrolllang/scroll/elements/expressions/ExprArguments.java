@@ -1,15 +1,16 @@
 package org.scrolllang.scroll.elements.expressions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.MatchResult;
-import java.util.stream.Collectors;
 
 import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.commands.Command;
 import org.scrolllang.scroll.commands.ScriptCommand;
 import org.scrolllang.scroll.commands.ScriptCommand.ScrollCommandContext;
-import org.scrolllang.scroll.commands.arguments.CommandArgument;
+import org.scrolllang.scroll.commands.arguments.CommandParameter;
 import org.scrolllang.scroll.documentation.annotations.Description;
 import org.scrolllang.scroll.documentation.annotations.Examples;
 import org.scrolllang.scroll.documentation.annotations.Name;
@@ -19,6 +20,7 @@ import org.scrolllang.scroll.utils.StringUtils;
 import org.scrolllang.scroll.utils.collections.CollectionUtils;
 
 import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.lang.TriggerContext;
 import io.github.syst3ms.skriptparser.parsing.ParseContext;
@@ -56,9 +58,15 @@ public class ExprArguments implements Expression<Object>, Languaged {
 	private static final int LAST = 0, ORDINAL = 1, SINGLE = 2, ALL = 3, TYPE = 4,  IDENTIFIER = 5;
 	private Expression<String> identifier;
 	private Expression<Type<?>> type;
-	private int selected, ordinal;
+	private int selected, ordinal = -1;
 	private Command command;
 
+	/**
+	 * The index of the selected argument in the argument frame of the command, resolved while parsing.
+	 * -1 when selecting all arguments, or when the identifier is only known at runtime.
+	 */
+	private int slot = -1;
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
@@ -75,7 +83,8 @@ public class ExprArguments implements Expression<Object>, Languaged {
 		}
 
 		this.command = command.get();
-		if (this.command.getParameters().isEmpty()) {
+		List<CommandParameter<?>> parameters = this.command.getParameters();
+		if (parameters.isEmpty()) {
 			error(parseContext, node("syntaxes.exprarguments.empty", this.command.getName()));
 			return false;
 		}
@@ -106,8 +115,8 @@ public class ExprArguments implements Expression<Object>, Languaged {
 
 		if ((selected == ORDINAL || selected == TYPE) && parseContext.getMatches().size() > 0) {
 			MatchResult regex = parseContext.getMatches().get(0);
-			String argMatch = null;
-			for (int i = 1; i <= 4; i++) {
+			String argMatch = regex.groupCount() == 0 ? regex.group() : null;
+			for (int i = 1; i <= regex.groupCount(); i++) {
 				argMatch = regex.group(i);
 				if (argMatch != null)
 					break; // Found format
@@ -116,58 +125,72 @@ public class ExprArguments implements Expression<Object>, Languaged {
 			try {
 				ordinal = Integer.parseInt(argMatch);
 			} catch (NumberFormatException exception) {}
-			int size = this.command.getParameters().size();
-			if (ordinal > size) {
+			int size = parameters.size();
+			if (ordinal > size || (selected == ORDINAL && ordinal < 1)) {
 				error(parseContext, node("syntaxes.exprarguments.not.many", ordinal, size));
 				return false;
 			}
 		}
-		return true;
-	}
 
-	@Override
-	public Object[] getValues(TriggerContext context) {
-		if (!(context instanceof ScrollCommandContext))
-			return new Object[0];
-		List<CommandArgument<?>> arguments = command.getArguments();
-		CommandArgument<?> argument = null;
 		switch (selected) {
 			case LAST:
-				argument = arguments.get(arguments.size() - 1);
+				slot = parameters.size() - 1;
 				break;
 			case ORDINAL:
-				argument = arguments.get(ordinal);
+				slot = ordinal - 1;
 				break;
 			case SINGLE:
-				argument = arguments.get(0);
+				slot = 0;
 				break;
-			case ALL:
-				return arguments.stream()
-						.map(CommandArgument::get)
-						.toArray(Object[]::new);
 			case TYPE:
-				Optional<Class<?>> type = this.type.getSingle(context).map(Type::getTypeClass);
-				if (!type.isPresent())
-					return new Object[0];
-				List<CommandArgument<?>> typeArguments = arguments.stream()
-						.filter(arg -> arg.getTypeClass().equals(type.get()))
-						.collect(Collectors.toList());
-				argument = typeArguments.get(ordinal < 0 ? 0 : ordinal);
+				Type<?> type = ((Literal<Type<?>>) this.type).getValues()[0];
+				slot = CommandParameter.indexOf(parameters, type.getTypeClass(), Math.max(ordinal, 1));
+				if (slot == -1) {
+					error(parseContext, node("syntaxes.exprarguments.no.type", type.getBaseName(), this.command.getName()));
+					return false;
+				}
 				break;
 			case IDENTIFIER:
-				Optional<? extends String> identifier = this.identifier.getSingle(context);
-				if (!identifier.isPresent())
-					return new Object[0];
-				argument = arguments.stream()
-						.filter(arg -> arg.getParameterInfo().getIdentifier().equalsIgnoreCase(identifier.get()))
-						.findFirst()
-						.orElse(null);
+				if (identifier instanceof Literal<?> && ((Literal<String>) identifier).getValues().length == 1)
+					slot = slotOf(((Literal<String>) identifier).getValues()[0]);
 				break;
 		}
+		return true;
+	}
 
-		if (argument == null || !argument.isPresent())
+	private int slotOf(String identifier) {
+		return CommandParameter.indexOf(command.getParameters(), identifier);
+	}
+
+	@Override
+	public Object[] getValues(TriggerContext context) {
+		if (!(context instanceof ScrollCommandContext<?> commandContext))
+			return new Object[0];
+		Object[] arguments = commandContext.getArguments();
+		if (selected == ALL) {
+			List<Object> values = new ArrayList<>(arguments.length);
+			for (Object argument : arguments) {
+				if (argument instanceof Object[] plural) {
+					values.addAll(Arrays.asList(plural));
+				} else if (argument != null) {
+					values.add(argument);
+				}
+			}
+			return values.toArray();
+		}
+
+		int slot = this.slot;
+		if (slot == -1 && selected == IDENTIFIER)
+			slot = identifier.getSingle(context).map(this::slotOf).orElse(-1);
+		if (slot < 0 || slot >= arguments.length)
+			return new Object[0];
+		Object argument = arguments[slot];
+		if (argument == null)
 			return new Object[0];
-		return CollectionUtils.array(argument.get());
+		// Plural parameters, such as entity selectors, hold all of their values.
+		if (argument instanceof Object[] values)
+			return values;
+		return CollectionUtils.array(argument);
 	}
 
 	@Override
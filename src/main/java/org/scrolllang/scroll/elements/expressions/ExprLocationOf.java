@@ -4,20 +4,32 @@ import org.scrolllang.scroll.Scroll;
 import org.scrolllang.scroll.documentation.annotations.Description;
 import org.scrolllang.scroll.documentation.annotations.Name;
 import org.scrolllang.scroll.documentation.annotations.Since;
+import org.scrolllang.scroll.language.Languaged;
 import org.scrolllang.scroll.objects.Location;
 
+import io.github.syst3ms.skriptparser.lang.Expression;
 import io.github.syst3ms.skriptparser.lang.properties.PropertyExpression;
+import io.github.syst3ms.skriptparser.parsing.ParseContext;
 import net.minecraft.entity.Entity;
 
 @Name("Location Of")
 @Description("The location of things in a world")
 @Since("1.0.0")
-public class ExprLocationOf extends PropertyExpression<Entity, Location> {
+public class ExprLocationOf extends PropertyExpression<Entity, Location> implements Languaged {
 
 	static {
 		Scroll.getRegistration().addPropertyExpression(ExprLocationOf.class, Location.class, "location[s]", "entities");
 	}
 
+	@Override
+	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (isAsync(parseContext)) {
+			error(parseContext, node("syntaxes.async.main.thread", "location"));
+			return false;
+		}
+		return super.init(expressions, matchedPattern, parseContext);
+	}
+
 	@Override
 	public Location getProperty(Entity entity) {
 		return new Location(entity.getPos(), entity.getWorld());
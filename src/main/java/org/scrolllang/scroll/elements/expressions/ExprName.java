@@ -66,6 +66,10 @@ public class ExprName extends PropertyExpression<Object, Text> implements Langua
 
 	@Override
 	public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+		if (isAsync(parseContext)) {
+			error(parseContext, node("syntaxes.async.main.thread", "name"));
+			return false;
+		}
 		List<String> marks = parseContext.getMarks();
 		if (!marks.isEmpty())
 			type = PatternType.valueOf(marks.get(0).toUpperCase(Locale.ENGLISH));
@@ -138,6 +138,21 @@ public interface Languaged {
 		Scroll.info(message);
 	}
 
+	/**
+	 * Syntaxes that read or change the world, players or entities must run on the game thread, they should refuse to parse when this is true.
+	 * The values of the event context are already unavailable in async triggers.
+	 * 
+	 * @param parseContext The context from an init method.
+	 * @return true if the syntax is being parsed in an async trigger, see {@link ScrollEvent#isAsync()}.
+	 */
+	default boolean isAsync(ParseContext parseContext) {
+		for (CodeSection section : parseContext.getParserState().getCurrentSections()) {
+			if (section instanceof Trigger trigger && trigger.getEvent() instanceof ScrollEvent event)
+				return event.isAsync();
+		}
+		return false;
+	}
+
 	/**
 	 * Compares all events against the present event to collect the name of the trigger.
 	 * 
@@ -0,0 +1,118 @@
+package org.scrolllang.scroll.language;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.context.PlayerContext;
+import org.scrolllang.scroll.utils.collections.UUIDLongMap;
+
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Limits how often the trigger of an event runs, declared in the event header with "once per 5 ticks [per player]".
+ * The limit is checked before the trigger is dispatched, so a limited trigger costs a single lookup.
+ */
+public class RateLimiter {
+
+	private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
+	// The limiters of the loaded triggers, so the players that leave can be forgotten.
+	private static final Set<RateLimiter> LIMITERS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private final UUIDLongMap players = new UUIDLongMap();
+	private final boolean perPlayer;
+	private final long ticks;
+
+	private long last = Long.MIN_VALUE;
+
+	/**
+	 * @param ticks The minimum amount of ticks between two runs.
+	 * @param perPlayer true if the limit applies to each player on their own, rather than to everyone together.
+	 */
+	public RateLimiter(long ticks, boolean perPlayer) {
+		this.ticks = Math.max(1, ticks);
+		this.perPlayer = perPlayer;
+		LIMITERS.add(this);
+	}
+
+	/**
+	 * Checks and records a run. Contexts without a player share a single limit.
+	 * 
+	 * @param context The context the trigger would run with.
+	 * @return true if the trigger may run.
+	 */
+	public boolean tryAcquire(TriggerContext context) {
+		UUID player = null;
+		if (perPlayer && context instanceof PlayerContext playerContext && playerContext.getPlayer() != null)
+			player = playerContext.getPlayer().getUuid();
+		return tryAcquire(player, currentTick());
+	}
+
+	/**
+	 * @param player The player to check the limit of, or null to check the shared limit.
+	 * @param now The current tick.
+	 * @return true if the trigger may run.
+	 */
+	synchronized boolean tryAcquire(@Nullable UUID player, long now) {
+		if (player != null) {
+			if (isLimited(players.get(player, Long.MIN_VALUE), now))
+				return false;
+			players.put(player, now);
+			return true;
+		}
+		if (isLimited(last, now))
+			return false;
+		last = now;
+		return true;
+	}
+
+	private boolean isLimited(long last, long now) {
+		// A tick before the last run means the server was restarted, which resets the limit.
+		return last != Long.MIN_VALUE && now >= last && now - last < ticks;
+	}
+
+	private synchronized void forget(UUID uuid) {
+		players.remove(uuid);
+	}
+
+	/**
+	 * @return The minimum amount of ticks between two runs.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * @return true if the limit applies to each player on their own.
+	 */
+	public boolean isPerPlayer() {
+		return perPlayer;
+	}
+
+	/**
+	 * Removes a player from all limiters. Called when the player disconnects.
+	 * 
+	 * @param uuid The {@link UUID} of the player.
+	 */
+	public static void forgetPlayer(UUID uuid) {
+		synchronized (LIMITERS) {
+			for (RateLimiter limiter : LIMITERS)
+				limiter.forget(uuid);
+		}
+	}
+
+	private static long currentTick() {
+		MinecraftServer server = Scroll.getMinecraftServer();
+		if (server != null)
+			return server.getTicks();
+		// Clients connected to another server have no server ticks, assume 20 ticks per second.
+		return System.nanoTime() / TICK;
+	}
+
+}
@@ -1,18 +1,83 @@
 package org.scrolllang.scroll.language;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.ScrollLoader;
+import org.scrolllang.scroll.context.CancellableContext;
+import org.scrolllang.scroll.log.TriggerErrors;
+import org.scrolllang.scroll.scheduler.ScheduledTask;
+import org.scrolllang.scroll.script.Script;
+import org.scrolllang.scroll.timings.Timings;
 
+import io.github.syst3ms.skriptparser.file.FileSection;
+import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Literal;
 import io.github.syst3ms.skriptparser.lang.SkriptEvent;
 import io.github.syst3ms.skriptparser.lang.Statement;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 import io.github.syst3ms.skriptparser.lang.TriggerContext;
+import io.github.syst3ms.skriptparser.log.SkriptLogger;
+import io.github.syst3ms.skriptparser.parsing.ParseContext;
+import io.github.syst3ms.skriptparser.parsing.ParserState;
 
 public abstract class ScrollEvent extends SkriptEvent {
 
 	public static record Information(String name) {}
 
+	/**
+	 * The order triggers of the same event run in. Triggers with a lower priority run first,
+	 * so the triggers with the highest priority have the final say over the outcome of the event.
+	 * Triggers with the same priority run in the order they were loaded.
+	 */
+	public enum Priority {
+		LOWEST, LOW, NORMAL, HIGH, HIGHEST
+	}
+
+	/**
+	 * Appended to the patterns of events with a {@link CancellableContext} by {@link Scroll#newEvent(String, Class, Class, String...)}.
+	 * Read by {@link #initOptions(Expression[], ParseContext)}. The rate limit is always the last expression of the pattern.
+	 */
+	public static final String OPTIONS_PATTERN = " [with (:lowest|:low|:normal|:high|:highest) priority] [(ignoring:ignoring cancel[l]ed [event[s]])] [(limit:once) per %*number% [server] tick[s] [(player:per player)]]";
+
+	/**
+	 * Prepended to the patterns of events with a {@link CancellableContext}, for example "on async right click on a block".
+	 * Read by {@link #initOptions(Expression[], ParseContext)}.
+	 */
+	public static final String ASYNC_PATTERN = "[async:async[hronous]] ";
+
+	// Async triggers run after the event returned, so they cannot change its outcome and don't hold up the game thread.
+	private static final ExecutorService ASYNC = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Scroll Async Trigger #", 0).factory());
+
+	private Priority priority = Priority.NORMAL;
+	private boolean ignoreCancelled;
+	private boolean async;
+
+	@Nullable
+	private RateLimiter rateLimiter;
+
+	@Nullable
+	private Script script;
+	private int line = -1;
+
+	// Managed by the TriggerWatchdog.
+	volatile boolean disabled;
+	volatile int strikes;
+	long lastStrike;
+
+	// The paused runs of the trigger of this event, see resume(). Cancelled once the trigger is removed.
+	private final Set<Continuation> continuations = ConcurrentHashMap.newKeySet();
+	private volatile boolean removed;
+
 	/**
 	 * Every ScrollEvent must return a defined ScrollTriggerList object.
 	 * 
@@ -22,6 +87,143 @@ public abstract class ScrollEvent extends SkriptEvent {
 	@NotNull
     public abstract ScrollTriggerList getTriggers();
 
+	/**
+	 * The keys this event was filtered to in the script, for example the blocks of "on right click on oak door".
+	 * The {@link ScrollTriggerList} indexes triggers by these keys, so dispatch only visits the triggers that can match,
+	 * see {@link ScrollTriggerList#getSnapshot(Object)}.
+	 * 
+	 * @return The filter keys. Empty if this event is not filtered.
+	 */
+	public Collection<?> getFilterKeys() {
+		return List.of();
+	}
+
+	/**
+	 * Reads the options of the event header, see {@link #OPTIONS_PATTERN} and {@link #ASYNC_PATTERN}.
+	 * Events with a cancellable context should call this from their init method.
+	 * 
+	 * @param expressions The expressions of the event header.
+	 * @param parseContext The ParseContext of the event header.
+	 */
+	@SuppressWarnings("unchecked")
+	protected void initOptions(Expression<?>[] expressions, ParseContext parseContext) {
+		List<String> marks = parseContext.getMarks();
+		for (String mark : marks) {
+			switch (mark) {
+				case "ignoring" -> ignoreCancelled = true;
+				case "async" -> async = true;
+				case "limit", "player" -> {}
+				default -> priority = Priority.valueOf(mark.toUpperCase(Locale.ENGLISH));
+			}
+		}
+		if (hasRateLimit(expressions, parseContext)) {
+			Literal<?> literal = (Literal<?>) expressions[expressions.length - 1];
+			Number[] ticks = ((Literal<Number>) literal).getValues();
+			if (ticks.length > 0)
+				rateLimiter = new RateLimiter(ticks[0].longValue(), marks.contains("player"));
+		}
+	}
+
+	/**
+	 * skript-parser does not pad the expressions of optional parts that did not match.
+	 * The rate limit of {@link #OPTIONS_PATTERN} is always the last expression when it is present.
+	 * 
+	 * @param expressions The expressions of the event header.
+	 * @param parseContext The ParseContext of the event header.
+	 * @return The expressions of the event's own pattern, without the expression of the options.
+	 */
+	protected Expression<?>[] getEventExpressions(Expression<?>[] expressions, ParseContext parseContext) {
+		if (!hasRateLimit(expressions, parseContext))
+			return expressions;
+		return Arrays.copyOf(expressions, expressions.length - 1);
+	}
+
+	private static boolean hasRateLimit(Expression<?>[] expressions, ParseContext parseContext) {
+		return parseContext.getMarks().contains("limit") && expressions.length > 0 && expressions[expressions.length - 1] instanceof Literal<?>;
+	}
+
+	/**
+	 * @return The {@link Priority} of this event, which decides the order its trigger runs in.
+	 */
+	public Priority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * @return true if the trigger of this event does not run once another trigger cancelled the event.
+	 */
+	public boolean isIgnoringCancelled() {
+		return ignoreCancelled;
+	}
+
+	/**
+	 * Async triggers run on a virtual thread once the event was dispatched, instead of on the thread that called the event.
+	 * They are parsed without the contexts of the event, so they cannot use the player, world or other values of the event.
+	 * Syntaxes that access the game refuse to parse in them, see {@link Languaged#isAsync(ParseContext)}.
+	 * 
+	 * @return true if the trigger of this event runs asynchronously.
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * @return The {@link RateLimiter} of the trigger of this event, if it declared one.
+	 */
+	@Nullable
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	@Override
+	public List<Statement> loadSection(FileSection section, ParserState parserState, SkriptLogger logger) {
+		initSource(section);
+		if (!async)
+			return super.loadSection(section, parserState, logger);
+		// The values of the context, like the player or the world, belong to the game thread.
+		// Parsing without any context makes every context value and context bound syntax refuse to parse.
+		Set<Class<? extends TriggerContext>> contexts = parserState.getCurrentContexts();
+		parserState.setCurrentContexts(Set.of());
+		try {
+			return super.loadSection(section, parserState, logger);
+		} finally {
+			parserState.setCurrentContexts(contexts);
+		}
+	}
+
+	/**
+	 * Remembers where this event was declared, so problems at runtime can point to the script and line.
+	 * Events that override {@link #loadSection(FileSection, ParserState, SkriptLogger)} should call this.
+	 * 
+	 * @param section The FileSection of the event.
+	 */
+	protected void initSource(FileSection section) {
+		this.script = ScrollLoader.getCurrentlyLoadingScript();
+		this.line = section.getLine();
+	}
+
+	/**
+	 * @return The {@link Script} this event was declared in. Null if unknown.
+	 */
+	@Nullable
+	public Script getScript() {
+		return script;
+	}
+
+	/**
+	 * @return The line this event was declared at in its script. -1 if unknown.
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	/**
+	 * @return true if the watchdog disabled the trigger of this event, because it kept running over its time budget.
+	 */
+	public boolean isDisabled() {
+		return disabled;
+	}
+
 	/**
 	 * Shortcut for executing a context to all triggers of the ScrollEvent.
 	 * 
@@ -30,19 +232,185 @@ public abstract class ScrollEvent extends SkriptEvent {
 	 * @param context The TriggerContext to apply to the triggers.
 	 */
 	public static <C extends TriggerContext> void runTriggers(ScrollTriggerList triggers, C context) {
-		runTriggers(triggers.getTriggers(), context);
+		runTriggers(triggers.getSnapshot(), context);
 	}
 
 	/**
 	 * Shortcut for executing a context to all triggers of the ScrollEvent.
 	 * 
 	 * @param <C> A context class that extends TriggerContext.
-	 * @param triggers A ist<Trigger> belonging to the ScrollEvent with all the {@link Trigger}s.
+	 * @param triggers A list of all the {@link Trigger}s belonging to the ScrollEvent.
 	 * @param context The TriggerContext to apply to the triggers.
 	 */
 	public static <C extends TriggerContext> void runTriggers(List<Trigger> triggers, C context) {
+		runTriggers(triggers.toArray(Trigger[]::new), context);
+	}
+
+	/**
+	 * Shortcut for executing a context to all triggers of the ScrollEvent.
+	 * 
+	 * @param <C> A context class that extends TriggerContext.
+	 * @param triggers The snapshot of a {@link ScrollTriggerList}, see {@link ScrollTriggerList#getSnapshot()}.
+	 * @param context The TriggerContext to apply to the triggers.
+	 */
+	public static <C extends TriggerContext> void runTriggers(Trigger[] triggers, C context) {
+		// Scripts load in the background, don't run a partially loaded set of scripts.
+		if (!Scroll.isReady())
+			return;
+		CancellableContext cancellable = context instanceof CancellableContext cancellableContext ? cancellableContext : null;
 		for (Trigger trigger : triggers)
-			Statement.runAll(trigger, context);
+			dispatch(trigger, context, cancellable);
+	}
+
+	/**
+	 * Executes a context to a single trigger, for events that know which trigger handles them.
+	 * 
+	 * @param <C> A context class that extends TriggerContext.
+	 * @param trigger The {@link Trigger} to run. Nothing happens if null.
+	 * @param context The TriggerContext to apply to the trigger.
+	 */
+	public static <C extends TriggerContext> void runTrigger(@Nullable Trigger trigger, C context) {
+		if (trigger == null || !Scroll.isReady())
+			return;
+		dispatch(trigger, context, context instanceof CancellableContext cancellableContext ? cancellableContext : null);
+	}
+
+	private static void dispatch(Trigger trigger, TriggerContext context, @Nullable CancellableContext cancellable) {
+		if (!(trigger.getEvent() instanceof ScrollEvent event)) {
+			run(trigger, context);
+			return;
+		}
+		// Checked here as well as by the watchdog, async triggers do not run through it.
+		if (event.disabled)
+			return;
+		if (event.ignoreCancelled && cancellable != null && cancellable.isCancelled())
+			return;
+		if (event.rateLimiter != null && !event.rateLimiter.tryAcquire(context))
+			return;
+		if (event.async) {
+			ASYNC.execute(() -> runAsync(trigger, context));
+			return;
+		}
+		run(trigger, context);
+	}
+
+	private static void runAsync(Trigger trigger, TriggerContext context) {
+		// The watchdog only guards the game thread, a slow async trigger does not hold anything up.
+		try {
+			execute(trigger, trigger, context);
+		} catch (Throwable throwable) {
+			report(trigger, context, throwable);
+		}
+	}
+
+	private static void run(Trigger trigger, TriggerContext context) {
+		run(trigger, trigger, context);
+	}
+
+	private static void run(Trigger trigger, Statement start, TriggerContext context) {
+		// A throwing trigger must not stop the other triggers or reach the code that called the event.
+		try {
+			if (TriggerWatchdog.isEnabled()) {
+				TriggerWatchdog.run(trigger, start, context);
+			} else {
+				execute(trigger, start, context);
+			}
+		} catch (Throwable throwable) {
+			report(trigger, context, throwable);
+		}
+	}
+
+	private static void report(Trigger trigger, TriggerContext context, Throwable throwable) {
+		// A trigger that recurses through a command or an event overflows the stack, which only unwinds that trigger.
+		// Other virtual machine errors, like running out of memory, leave nothing that can safely carry on.
+		if (throwable instanceof VirtualMachineError error && !(error instanceof StackOverflowError))
+			throw error;
+		TriggerErrors.report(trigger, context, throwable);
+	}
+
+	/**
+	 * Continues a paused trigger from a statement after a delay, for effects that pause a trigger like wait.
+	 * The rest of the trigger runs through the watchdog, timings and error reporting like the trigger itself.
+	 * It does not run if the trigger is removed in the meantime, for example because its script was reloaded.
+	 * 
+	 * @param trigger The {@link Trigger} that was paused.
+	 * @param statement The {@link Statement} to continue from.
+	 * @param context The TriggerContext the trigger was running with.
+	 * @param delay The delay in server ticks, see {@link Scroll#getScheduler()}.
+	 */
+	public static void resume(Trigger trigger, Statement statement, TriggerContext context, long delay) {
+		if (!(trigger.getEvent() instanceof ScrollEvent event)) {
+			Scroll.getScheduler().schedule(delay, () -> run(trigger, statement, context));
+			return;
+		}
+		Continuation continuation = event.new Continuation(trigger, statement, context);
+		event.continuations.add(continuation);
+		// The trigger may have been removed while it was running.
+		if (event.removed) {
+			event.continuations.remove(continuation);
+			return;
+		}
+		continuation.task = Scroll.getScheduler().schedule(delay, continuation);
+	}
+
+	/**
+	 * Cancels the paused runs of the trigger of this event. Called by the {@link ScrollTriggerList} when it removes the trigger.
+	 * Triggers are not added again once removed, reloading a script creates new triggers.
+	 */
+	void cancelContinuations() {
+		removed = true;
+		for (Continuation continuation : continuations)
+			continuation.cancel();
+		continuations.clear();
+	}
+
+	private final class Continuation implements Runnable {
+
+		private final Trigger trigger;
+		private final Statement statement;
+		private final TriggerContext context;
+
+		@Nullable
+		private volatile ScheduledTask task;
+		private volatile boolean cancelled;
+
+		private Continuation(Trigger trigger, Statement statement, TriggerContext context) {
+			this.trigger = trigger;
+			this.statement = statement;
+			this.context = context;
+		}
+
+		private void cancel() {
+			cancelled = true;
+			ScheduledTask task = this.task;
+			if (task != null)
+				task.cancel();
+		}
+
+		@Override
+		public void run() {
+			continuations.remove(this);
+			if (!cancelled)
+				ScrollEvent.run(trigger, statement, context);
+		}
+
+	}
+
+	/**
+	 * Resets the per tick accounting of the trigger watchdog for the current thread.
+	 * Must be called by the server and client threads at the end of every tick.
+	 */
+	public static void endTick() {
+		if (TriggerWatchdog.isEnabled())
+			TriggerWatchdog.endTick();
+	}
+
+	static void execute(Trigger trigger, Statement start, TriggerContext context) {
+		if (Timings.isEnabled()) {
+			Timings.run(trigger, start, context);
+			return;
+		}
+		Statement.runAll(start, context);
 	}
 
 	@Override
@@ -2,25 +2,185 @@ package org.scrolllang.scroll.language;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
+
+import io.github.syst3ms.skriptparser.lang.SkriptEvent;
 import io.github.syst3ms.skriptparser.lang.Trigger;
 
 public class ScrollTriggerList {
 
-	private final List<Trigger> triggers = new ArrayList<Trigger>();
+	private static final Trigger[] EMPTY = new Trigger[0];
+
+	/**
+	 * @param triggers All triggers.
+	 * @param unfiltered The triggers without a filter, see {@link ScrollEvent#getFilterKeys()}.
+	 * @param filtered Per filter key, the triggers filtered to it merged with the unfiltered triggers.
+	 */
+	private record Snapshot(Trigger[] triggers, Trigger[] unfiltered, Map<Object, Trigger[]> filtered) {}
+
+	// Scripts swap triggers from parser threads while events iterate them on the game thread.
+	// Every change publishes a new snapshot, so an event always sees either the old or the new triggers of a script.
+	// The arrays are never modified once published.
+	private volatile Snapshot snapshot = new Snapshot(EMPTY, EMPTY, Map.of());
+
+	@Nullable
+	private Runnable activator;
+
+	public ScrollTriggerList() {}
+
+	/**
+	 * Fabric events cannot remove a listener once registered. Events use the activator to only register
+	 * their listener once a script actually handles them, and return early while {@link #isEmpty()}.
+	 * 
+	 * @param activator Called once, the first time a trigger is added to this list.
+	 */
+	public ScrollTriggerList(Runnable activator) {
+		this.activator = activator;
+	}
+
+	/**
+	 * @return The current triggers. Must not be modified. Dispatch iterates this array without copying it.
+	 */
+	public Trigger[] getSnapshot() {
+		return snapshot.triggers();
+	}
+
+	/**
+	 * Returns the triggers that can match the filter key, in the same order as {@link #getSnapshot()}.
+	 * These are the triggers filtered to the key and the triggers without a filter.
+	 * 
+	 * @param key The filter key of the event being dispatched, for example the block that was clicked.
+	 * @return The matching triggers. Must not be modified.
+	 */
+	public Trigger[] getSnapshot(Object key) {
+		Snapshot snapshot = this.snapshot;
+		Trigger[] triggers = snapshot.filtered().get(key);
+		return triggers != null ? triggers : snapshot.unfiltered();
+	}
 
 	public List<Trigger> getTriggers() {
-		return Collections.unmodifiableList(triggers);
+		return Collections.unmodifiableList(Arrays.asList(snapshot.triggers()));
+	}
+
+	/**
+	 * @return true if there are no triggers.
+	 */
+	public boolean isEmpty() {
+		return snapshot.triggers().length == 0;
+	}
+
+	public synchronized void addTriggers(Trigger... triggers) {
+		replace(List.of(), Arrays.asList(triggers));
+	}
+
+	public synchronized void removeTriggers(Collection<Trigger> triggers) {
+		replace(triggers, List.of());
+	}
+
+	/**
+	 * Removes and adds triggers in a single step. Events never see the list with only one of the two applied.
+	 * 
+	 * @param previous The triggers to remove.
+	 * @param replacements The triggers to add.
+	 */
+	public synchronized void replace(Collection<Trigger> previous, Collection<Trigger> replacements) {
+		Set<Trigger> removing = Collections.newSetFromMap(new IdentityHashMap<>());
+		removing.addAll(previous);
+		List<Trigger> triggers = new ArrayList<>(snapshot.triggers().length + replacements.size());
+		List<Trigger> removed = new ArrayList<>();
+		for (Trigger trigger : snapshot.triggers()) {
+			if (!removing.contains(trigger)) {
+				triggers.add(trigger);
+			} else {
+				removed.add(trigger);
+			}
+		}
+		triggers.addAll(replacements);
+		snapshot = index(triggers);
+		cancelContinuations(removed);
+		changed(removed, replacements);
+		if (activator != null && !triggers.isEmpty()) {
+			Runnable activator = this.activator;
+			this.activator = null;
+			activator.run();
+		}
+	}
+
+	public synchronized void clear() {
+		List<Trigger> removed = List.of(snapshot.triggers());
+		snapshot = new Snapshot(EMPTY, EMPTY, Map.of());
+		cancelContinuations(removed);
+		changed(removed, List.of());
+	}
+
+	/**
+	 * Called after triggers were added or removed, while this list is locked.
+	 * Events that are not fired by Fabric, like periodical events, override this to start and stop their triggers.
+	 * 
+	 * @param removed The triggers that were removed.
+	 * @param added The triggers that were added.
+	 */
+	protected void changed(Collection<Trigger> removed, Collection<Trigger> added) {}
+
+	/**
+	 * Paused runs of removed triggers, like the rest of a trigger after a wait, must not run anymore.
+	 * Done here rather than in {@link #changed(Collection, Collection)}, so overriding it cannot skip it.
+	 */
+	private static void cancelContinuations(Collection<Trigger> removed) {
+		for (Trigger trigger : removed) {
+			if (trigger.getEvent() instanceof ScrollEvent event)
+				event.cancelContinuations();
+		}
+	}
+
+	private static Snapshot index(List<Trigger> triggers) {
+		// The sort is stable, triggers of the same priority keep the order they were loaded in.
+		triggers.sort(Comparator.comparing(ScrollTriggerList::getPriority));
+		Set<Object> keys = new LinkedHashSet<>();
+		List<Trigger> unfiltered = new ArrayList<>();
+		for (Trigger trigger : triggers) {
+			Collection<?> filter = getFilterKeys(trigger);
+			if (filter.isEmpty()) {
+				unfiltered.add(trigger);
+			} else {
+				keys.addAll(filter);
+			}
+		}
+		// Merged once here, so dispatch is a single lookup without any copying.
+		Map<Object, Trigger[]> filtered = new HashMap<>();
+		for (Object key : keys) {
+			List<Trigger> matching = new ArrayList<>();
+			for (Trigger trigger : triggers) {
+				Collection<?> filter = getFilterKeys(trigger);
+				if (filter.isEmpty() || filter.contains(key))
+					matching.add(trigger);
+			}
+			filtered.put(key, matching.toArray(EMPTY));
+		}
+		return new Snapshot(triggers.toArray(EMPTY), unfiltered.toArray(EMPTY), Map.copyOf(filtered));
 	}
 
-	public void addTriggers(Trigger... triggers) {
-		this.triggers.addAll(Arrays.asList(triggers));
+	private static ScrollEvent.Priority getPriority(Trigger trigger) {
+		if (trigger.getEvent() instanceof ScrollEvent scrollEvent)
+			return scrollEvent.getPriority();
+		return ScrollEvent.Priority.NORMAL;
 	}
 
-	public void clear() {
-		this.triggers.clear();
+	private static Collection<?> getFilterKeys(Trigger trigger) {
+		SkriptEvent event = trigger.getEvent();
+		if (event instanceof ScrollEvent scrollEvent)
+			return scrollEvent.getFilterKeys();
+		return List.of();
 	}
 
 }
@@ -0,0 +1,110 @@
+package org.scrolllang.scroll.language;
+
+import java.util.concurrent.TimeUnit;
+
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.script.Script;
+
+import io.github.syst3ms.skriptparser.lang.Statement;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+
+/**
+ * Guards the thread running events against triggers that take too long.
+ * <p>
+ * A running trigger cannot be stopped safely, so the watchdog measures triggers once they finish.
+ * A trigger that runs over its budget gets a strike. Once all triggers together spent the tick budget,
+ * triggers with strikes are skipped for the rest of the tick. A trigger that collects too many strikes
+ * is disabled until its script is reloaded, which creates new triggers.
+ */
+final class TriggerWatchdog {
+
+	private static final long TICK_WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+	private static final boolean ENABLED = Scroll.CONFIGURATION.isWatchdogEnabled();
+	private static final long TRIGGER_BUDGET = TimeUnit.MILLISECONDS.toNanos(Scroll.CONFIGURATION.getTriggerBudget());
+	private static final long TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(Scroll.CONFIGURATION.getTickBudget());
+	private static final long STRIKE_WINDOW = TimeUnit.SECONDS.toNanos(Scroll.CONFIGURATION.getStrikeWindow());
+	private static final int STRIKES = Scroll.CONFIGURATION.getWatchdogStrikes();
+
+	// Events run on the server thread and on the client thread, each has its own tick.
+	// Only threads that report the end of their ticks have a tick budget, see endTick().
+	private static final ThreadLocal<Tick> TICKS = ThreadLocal.withInitial(Tick::new);
+
+	private static volatile long lastTickWarning;
+
+	private static class Tick {
+		boolean ticking;
+		long spent;
+	}
+
+	private TriggerWatchdog() {}
+
+	static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Starts a new tick budget for the current thread. Called by the thread at the end of each of its ticks.
+	 */
+	static void endTick() {
+		Tick tick = TICKS.get();
+		tick.ticking = true;
+		tick.spent = 0;
+	}
+
+	static void run(Trigger trigger, Statement start, TriggerContext context) {
+		if (!(trigger.getEvent() instanceof ScrollEvent event)) {
+			ScrollEvent.execute(trigger, start, context);
+			return;
+		}
+		if (event.disabled)
+			return;
+		long started = System.nanoTime();
+		Tick tick = TICKS.get();
+		if (tick.ticking && tick.spent >= TICK_BUDGET && hasStrikes(event, started)) {
+			warnTick(tick.spent);
+			return;
+		}
+		try {
+			ScrollEvent.execute(trigger, start, context);
+		} finally {
+			long time = System.nanoTime() - started;
+			tick.spent += time;
+			if (time > TRIGGER_BUDGET)
+				strike(event, context, time, started);
+		}
+	}
+
+	private static boolean hasStrikes(ScrollEvent event, long now) {
+		return event.strikes > 0 && now - event.lastStrike <= STRIKE_WINDOW;
+	}
+
+	private static void strike(ScrollEvent event, TriggerContext context, long time, long now) {
+		int strikes;
+		synchronized (event) {
+			if (now - event.lastStrike > STRIKE_WINDOW)
+				event.strikes = 0;
+			strikes = ++event.strikes;
+			event.lastStrike = now;
+		}
+		String name = event.toString(context, false);
+		Script script = event.getScript();
+		String file = script == null ? "?" : script.getFileName();
+		Scroll.LOGGER.warn(Scroll.languageFormat("scroll.watchdog.overrun", name, file, event.getLine(),
+				TimeUnit.NANOSECONDS.toMillis(time), TimeUnit.NANOSECONDS.toMillis(TRIGGER_BUDGET), strikes));
+		if (STRIKES > 0 && strikes >= STRIKES && !event.disabled) {
+			event.disabled = true;
+			Scroll.LOGGER.error(Scroll.languageFormat("scroll.watchdog.disabled", name, file, event.getLine(), strikes));
+		}
+	}
+
+	private static void warnTick(long spent) {
+		long now = System.nanoTime();
+		if (now - lastTickWarning < TICK_WARNING_INTERVAL)
+			return;
+		lastTickWarning = now;
+		Scroll.LOGGER.warn(Scroll.languageFormat("scroll.watchdog.tick", TimeUnit.NANOSECONDS.toMillis(spent), TimeUnit.NANOSECONDS.toMillis(TICK_BUDGET)));
+	}
+
+}
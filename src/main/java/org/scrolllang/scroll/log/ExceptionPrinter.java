@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import org.scrolllang.scroll.Scroll;
+import org.jetbrains.annotations.Nullable;
 import org.scrolllang.scroll.ScrollAddon;
 import org.scrolllang.scroll.exceptions.EmptyStacktraceException;
 import org.slf4j.Logger;
@@ -15,11 +15,17 @@ import net.fabricmc.loader.api.metadata.ModMetadata;
 
 /**
  * A printer that safely prints an exception to console without crashing.
+ * <p>
+ * The report is built first and logged in a single call, so it does not interleave with other log lines.
  */
 public class ExceptionPrinter extends CommonPrinter {
 
 	private static final String EXCEPTION_PREFIX = "#!#! ";
-	private static List<String> mods = new ArrayList<>();
+
+	@Nullable
+	private static volatile List<String> mods;
+
+	private final StringBuilder report = new StringBuilder();
 
 	private final Throwable throwable;
 	private final ScrollAddon addon;
@@ -51,15 +57,7 @@ public class ExceptionPrinter extends CommonPrinter {
 		logEx("[" + addon.getName() + "] Severe Error:");
 		logEx(messages);
 		logEx();
-		if (mods.isEmpty()) {
-			mods.add("Current Mods:");
-			FabricLoader.getInstance().getAllMods().stream()
-					.map(ModContainer::getMetadata)
-					.filter(metadata -> !metadata.getId().equalsIgnoreCase("scroll"))
-					.forEach(metadata -> mods.add("  " + metadata.getName() + " (" + metadata.getId() + ") " + metadata.getVersion()));
-			mods.add("");
-		}
-		mods.forEach(modDetails -> logEx(modDetails));
+		getMods().forEach(modDetails -> logEx(modDetails));
 		ModMetadata scroll = FabricLoader.getInstance().getModContainer("scroll").orElseThrow().getMetadata();
 
 		if (addon.getName().equals("scroll")) {
@@ -69,7 +67,7 @@ public class ExceptionPrinter extends CommonPrinter {
 				logEx("Your players are unlikely to appreciate crashes and/or data loss due to Scroll bugs.");
 				logEx("");
 				logEx("Just testing things? Good. Please report this bug, so that we can fix it before a stable release.");
-				logEx("Issue tracker: " + addon.getReportURL() == null ? "https://github.com/ScrollLang/Scroll/issues" : addon.getReportURL());
+				logEx("Issue tracker: " + (addon.getReportURL() == null ? "https://github.com/ScrollLang/Scroll/issues" : addon.getReportURL()));
 	//		} else if (updater != null && updater.getReleaseStatus() == ReleaseStatus.OUTDATED) {
 	//			logEx("You're running outdated version of Scroll! Please try updating it NOW; it might fix this issue.");
 	//			logEx("Run /sc update check to get a download link to latest Scroll!");
@@ -124,18 +122,34 @@ public class ExceptionPrinter extends CommonPrinter {
 		logEx();
 		logEx("End of Error.");
 		logEx();
-		
+
+		logger.error(report.toString());
+		report.setLength(0);
 		return new EmptyStacktraceException();
 	}
 
+	private static List<String> getMods() {
+		List<String> mods = ExceptionPrinter.mods;
+		if (mods != null)
+			return mods;
+		List<String> details = new ArrayList<>();
+		details.add("Current Mods:");
+		FabricLoader.getInstance().getAllMods().stream()
+				.map(ModContainer::getMetadata)
+				.filter(metadata -> !metadata.getId().equalsIgnoreCase("scroll"))
+				.forEach(metadata -> details.add("  " + metadata.getName() + " (" + metadata.getId() + ") " + metadata.getVersion()));
+		details.add("");
+		return ExceptionPrinter.mods = List.copyOf(details);
+	}
+
 	private String logEx() {
-		Scroll.LOGGER.error(EXCEPTION_PREFIX);
+		report.append(System.lineSeparator()).append(EXCEPTION_PREFIX);
 		return EXCEPTION_PREFIX;
 	}
 
 	private void logEx(String... lines) {
 		for (String line : lines)
-			Scroll.LOGGER.error(EXCEPTION_PREFIX + line);
+			report.append(System.lineSeparator()).append(EXCEPTION_PREFIX).append(line);
 	}
 
 }
@@ -0,0 +1,92 @@
+package org.scrolllang.scroll.log;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.Scroll;
+import org.scrolllang.scroll.language.ScrollEvent;
+import org.scrolllang.scroll.script.Script;
+
+import io.github.syst3ms.skriptparser.lang.SkriptEvent;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+
+/**
+ * Reports exceptions thrown by triggers at runtime.
+ * <p>
+ * Errors are fingerprinted by the script, the line of the event and the exception type.
+ * The first occurrence of an error prints a full report, repeats are only counted
+ * and summarized in a single line at most once every {@link #SUMMARY_INTERVAL} seconds.
+ * A trigger that throws on every call therefore cannot flood the log.
+ */
+public final class TriggerErrors {
+
+	/**
+	 * The minimum time in seconds between the summaries of a repeating error.
+	 */
+	public static final long SUMMARY_INTERVAL = 60;
+
+	private static final Map<Fingerprint, Occurrences> ERRORS = new ConcurrentHashMap<>();
+
+	private record Fingerprint(@Nullable Path script, int line, Class<? extends Throwable> type) {}
+
+	private static class Occurrences {
+		private final LongAdder repeats = new LongAdder();
+		private final AtomicLong lastSummary = new AtomicLong(System.nanoTime());
+	}
+
+	private TriggerErrors() {}
+
+	/**
+	 * Reports an exception a trigger threw while running.
+	 * 
+	 * @param trigger The {@link Trigger} that threw.
+	 * @param context The {@link TriggerContext} the trigger was running with.
+	 * @param throwable The exception that was thrown.
+	 */
+	public static void report(Trigger trigger, TriggerContext context, Throwable throwable) {
+		SkriptEvent event = trigger.getEvent();
+		Script script = event instanceof ScrollEvent scrollEvent ? scrollEvent.getScript() : null;
+		int line = event instanceof ScrollEvent scrollEvent ? scrollEvent.getLine() : -1;
+		Fingerprint fingerprint = new Fingerprint(script == null ? null : script.getPath(), line, throwable.getClass());
+
+		Occurrences created = new Occurrences();
+		Occurrences occurrences = ERRORS.putIfAbsent(fingerprint, created);
+		String name = describe(event, context);
+		String file = script == null ? "?" : script.getFileName();
+		if (occurrences == null) {
+			Scroll.getInstance().printException(throwable, Scroll.languageFormat("scripts.runtime.error", name, file, line, throwable.getClass().getSimpleName(), SUMMARY_INTERVAL));
+			return;
+		}
+		occurrences.repeats.increment();
+		long now = System.nanoTime();
+		long last = occurrences.lastSummary.get();
+		if (now - last < TimeUnit.SECONDS.toNanos(SUMMARY_INTERVAL) || !occurrences.lastSummary.compareAndSet(last, now))
+			return;
+		long repeats = occurrences.repeats.sumThenReset();
+		Scroll.LOGGER.error(Scroll.languageFormat("scripts.runtime.error.repeated", name, file, line, throwable.getClass().getSimpleName(), repeats, TimeUnit.NANOSECONDS.toSeconds(now - last)));
+	}
+
+	/**
+	 * Forgets the errors of a script, so they are reported in full again. Called when a script is unloaded or reloaded.
+	 * 
+	 * @param script The {@link Script} to forget the errors of.
+	 */
+	public static void forget(Script script) {
+		ERRORS.keySet().removeIf(fingerprint -> script.getPath().equals(fingerprint.script()));
+	}
+
+	private static String describe(SkriptEvent event, TriggerContext context) {
+		try {
+			return event.toString(context, false);
+		} catch (Exception exception) {
+			return context.getName();
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+package org.scrolllang.scroll.scheduler;
+
+/**
+ * A task scheduled on the {@link TickScheduler}.
+ */
+public class ScheduledTask {
+
+	private final Runnable runnable;
+	private final long period;
+
+	// Only accessed from the thread that ticks the scheduler.
+	long deadline;
+
+	private volatile boolean cancelled;
+
+	ScheduledTask(Runnable runnable, long deadline, long period) {
+		this.runnable = runnable;
+		this.deadline = deadline;
+		this.period = period;
+	}
+
+	void run() {
+		runnable.run();
+	}
+
+	/**
+	 * Cancels this task. It will not run again, the scheduler drops it the next time it comes across it.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * @return true if this task was cancelled.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @return true if this task repeats.
+	 */
+	public boolean isPeriodic() {
+		return period > 0;
+	}
+
+	/**
+	 * @return The amount of ticks between the runs of this task. 0 if it only runs once.
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+}
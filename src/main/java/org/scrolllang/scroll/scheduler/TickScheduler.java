@@ -0,0 +1,250 @@
+package org.scrolllang.scroll.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.scrolllang.scroll.Scroll;
+
+/**
+ * Runs tasks after a delay or periodically, counted in server ticks.
+ * <p>
+ * Tasks are kept in a hierarchical timing wheel: {@value #LEVELS} wheels of {@value #SLOTS} slots,
+ * where every slot of a wheel spans a whole turn of the wheel below it. Scheduling a task and
+ * expiring a tick are constant time, regardless of how many tasks are waiting.
+ * Tasks in the higher wheels move down a wheel each time the wheel below completes a turn.
+ * <p>
+ * Tasks can be scheduled from any thread, they are handed to the ticking thread through a queue.
+ * Due tasks run on the ticking thread within a time budget per tick. When more tasks are due than
+ * fit in the budget, the rest run on the next ticks instead of stalling a single tick.
+ */
+public class TickScheduler {
+
+	private static final int BITS = 6;
+	private static final int SLOTS = 1 << BITS;
+	private static final int MASK = SLOTS - 1;
+	private static final int LEVELS = 4;
+
+	private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+	private final LongAdder totalLag = new LongAdder();
+	private final LongAdder executed = new LongAdder();
+
+	private final Queue<ScheduledTask> incoming = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger scheduled = new AtomicInteger();
+
+	// Only accessed from the thread that ticks the scheduler.
+	@SuppressWarnings("unchecked")
+	private final ArrayDeque<ScheduledTask>[][] wheels = new ArrayDeque[LEVELS][SLOTS];
+	private final ArrayDeque<ScheduledTask> overflow = new ArrayDeque<>();
+	private final ArrayDeque<ScheduledTask> due = new ArrayDeque<>();
+	private final long budget;
+
+	private volatile long tick;
+
+	/**
+	 * @param budget The time in milliseconds due tasks may take per tick. 0 or lower runs all due tasks every tick.
+	 */
+	public TickScheduler(long budget) {
+		this.budget = TimeUnit.MILLISECONDS.toNanos(budget);
+		for (ArrayDeque<ScheduledTask>[] wheel : wheels) {
+			for (int slot = 0; slot < SLOTS; slot++)
+				wheel[slot] = new ArrayDeque<>();
+		}
+	}
+
+	/**
+	 * Runs a task once after the delay.
+	 * 
+	 * @param delay The delay in ticks. 0 or lower runs the task on the next tick.
+	 * @param runnable The task to run.
+	 * @return The {@link ScheduledTask}, which can be cancelled.
+	 */
+	public ScheduledTask schedule(long delay, Runnable runnable) {
+		return submit(new ScheduledTask(runnable, tick + Math.max(1, delay), 0));
+	}
+
+	/**
+	 * Runs a task repeatedly, until it is cancelled.
+	 * 
+	 * @param delay The delay in ticks before the first run. 0 or lower runs the task on the next tick.
+	 * @param period The ticks between the runs. Must be 1 or higher.
+	 * @param runnable The task to run.
+	 * @return The {@link ScheduledTask}, which can be cancelled.
+	 */
+	public ScheduledTask scheduleAtFixedRate(long delay, long period, Runnable runnable) {
+		if (period <= 0)
+			throw new IllegalArgumentException("The period must be at least one tick, was " + period);
+		return submit(new ScheduledTask(runnable, tick + Math.max(1, delay), period));
+	}
+
+	private ScheduledTask submit(ScheduledTask task) {
+		scheduled.incrementAndGet();
+		incoming.add(task);
+		return task;
+	}
+
+	/**
+	 * Advances the scheduler by one tick and runs the due tasks. Must always be called from the same thread.
+	 */
+	public void tick() {
+		long tick = this.tick + 1;
+		this.tick = tick;
+		if ((tick & MASK) == 0)
+			cascade(1, tick);
+		ScheduledTask task;
+		while ((task = incoming.poll()) != null)
+			insert(task, tick);
+		ArrayDeque<ScheduledTask> slot = wheels[0][(int) (tick & MASK)];
+		due.addAll(slot);
+		slot.clear();
+		run(tick);
+	}
+
+	private void run(long tick) {
+		long start = System.nanoTime();
+		ScheduledTask task;
+		while ((task = due.poll()) != null) {
+			if (task.isCancelled()) {
+				scheduled.decrementAndGet();
+				continue;
+			}
+			long lag = tick - task.deadline;
+			totalLag.add(lag);
+			maxLag.accumulate(lag);
+			executed.increment();
+			try {
+				task.run();
+			} catch (Exception exception) {
+				Scroll.getInstance().printException(exception, Scroll.languageFormat("scroll.scheduler.task.failed"));
+			}
+			if (task.isPeriodic() && !task.isCancelled()) {
+				// A task that fell behind skips the runs it missed, rather than running them all at once.
+				task.deadline = Math.max(task.deadline + task.getPeriod(), tick + 1);
+				insert(task, tick);
+			} else {
+				scheduled.decrementAndGet();
+			}
+			if (budget > 0 && System.nanoTime() - start >= budget)
+				break;
+		}
+	}
+
+	/**
+	 * Cancels and drops all tasks, including the periodic ones. Used when the server stops,
+	 * so tasks of one world never run in the next world of single player. Must be called from the thread that ticks the scheduler.
+	 */
+	public void clear() {
+		ScheduledTask task;
+		while ((task = incoming.poll()) != null)
+			drop(task);
+		for (ArrayDeque<ScheduledTask>[] wheel : wheels) {
+			for (ArrayDeque<ScheduledTask> slot : wheel)
+				clear(slot);
+		}
+		clear(overflow);
+		clear(due);
+	}
+
+	private void clear(ArrayDeque<ScheduledTask> tasks) {
+		ScheduledTask task;
+		while ((task = tasks.poll()) != null)
+			drop(task);
+	}
+
+	private void drop(ScheduledTask task) {
+		task.cancel();
+		scheduled.decrementAndGet();
+	}
+
+	/**
+	 * Places the task in the lowest wheel whose turn covers its remaining delay.
+	 * 
+	 * @param task The task to place.
+	 * @param tick The current tick. Its slot in the lowest wheel must not have been emptied yet, or the task must be due later.
+	 */
+	private void insert(ScheduledTask task, long tick) {
+		long delay = task.deadline - tick;
+		if (delay <= 0) {
+			due.add(task);
+			return;
+		}
+		for (int level = 0; level < LEVELS; level++) {
+			if (delay < 1L << (BITS * (level + 1))) {
+				wheels[level][(int) ((task.deadline >>> (BITS * level)) & MASK)].add(task);
+				return;
+			}
+		}
+		overflow.add(task);
+	}
+
+	/**
+	 * Moves the tasks of the current slot of a wheel down to the lower wheels, once the wheel below completed a turn.
+	 */
+	private void cascade(int level, long tick) {
+		if (level == LEVELS) {
+			for (int i = overflow.size(); i > 0; i--)
+				insert(overflow.poll(), tick);
+			return;
+		}
+		int index = (int) ((tick >>> (BITS * level)) & MASK);
+		if (index == 0)
+			cascade(level + 1, tick);
+		ArrayDeque<ScheduledTask> slot = wheels[level][index];
+		for (int i = slot.size(); i > 0; i--) {
+			ScheduledTask task = slot.poll();
+			if (task.isCancelled()) {
+				scheduled.decrementAndGet();
+				continue;
+			}
+			insert(task, tick);
+		}
+	}
+
+	/**
+	 * @return The amount of ticks the scheduler advanced.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * @return The amount of tasks that are waiting, including the periodic tasks.
+	 */
+	public int getScheduledTasks() {
+		return scheduled.get();
+	}
+
+	/**
+	 * @return The amount of tasks that are due but did not fit in the time budget of the last tick.
+	 */
+	public int getDueTasks() {
+		return due.size();
+	}
+
+	/**
+	 * @return The amount of times a task ran.
+	 */
+	public long getExecutedTasks() {
+		return executed.sum();
+	}
+
+	/**
+	 * @return The average amount of ticks tasks ran after they were due.
+	 */
+	public double getAverageLag() {
+		long executed = this.executed.sum();
+		return executed == 0 ? 0 : (double) totalLag.sum() / executed;
+	}
+
+	/**
+	 * @return The most ticks a task ran after it was due.
+	 */
+	public long getMaxLag() {
+		return maxLag.get();
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.scrolllang.scroll.script;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.ScrollLoader;
+import org.scrolllang.scroll.commands.Command;
+import org.scrolllang.scroll.language.ScrollTriggerList;
+
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.log.SkriptLogger;
+
+/**
+ * Holds the state of a single script while it is being parsed.
+ * <p>
+ * A session is bound to the thread parsing the script, see {@link ScrollLoader#getCurrentSession()}.
+ * That way scripts can be parsed in parallel without their logs or registrations mixing.
+ * <p>
+ * Commands and triggers of the script are staged in the session while it parses, the previous version of the script
+ * stays live until the session is published.
+ */
+public class ParseSession {
+
+	private final List<Command> commands = new CopyOnWriteArrayList<>();
+	private final Map<ScrollTriggerList, List<Trigger>> triggers = new ConcurrentHashMap<>();
+	private final Map<String, Command> commandNames = new ConcurrentHashMap<>();
+	private final SkriptLogger logger;
+	private final Script script;
+
+	public ParseSession(Script script, SkriptLogger logger) {
+		this.script = script;
+		this.logger = logger;
+	}
+
+	/**
+	 * @return The {@link Script} being parsed.
+	 */
+	@NotNull
+	public Script getScript() {
+		return script;
+	}
+
+	/**
+	 * @return The logger the parse errors and warnings of the script are collected in.
+	 */
+	@NotNull
+	public SkriptLogger getLogger() {
+		return logger;
+	}
+
+	/**
+	 * Stages a command that was registered while parsing the script.
+	 *
+	 * @param command The {@link Command} that was registered.
+	 */
+	public void addCommand(Command command) {
+		commands.add(command);
+		commandNames.putIfAbsent(command.getName().toLowerCase(Locale.ROOT), command);
+		for (String alias : command.getAliases())
+			commandNames.putIfAbsent(alias.toLowerCase(Locale.ROOT), command);
+	}
+
+	/**
+	 * @param name The name or an alias of a command. Ignoring case.
+	 * @return The staged command with the name or alias, null if none.
+	 */
+	@Nullable
+	public Command getCommand(String name) {
+		return commandNames.get(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * @return The commands staged while parsing the script.
+	 */
+	public List<Command> getCommands() {
+		return Collections.unmodifiableList(commands);
+	}
+
+	/**
+	 * Stages a trigger that was handled while parsing the script.
+	 *
+	 * @param list The {@link ScrollTriggerList} of the event the trigger belongs to.
+	 * @param trigger The {@link Trigger} that was handled.
+	 */
+	public void addTrigger(ScrollTriggerList list, Trigger trigger) {
+		triggers.computeIfAbsent(list, key -> new CopyOnWriteArrayList<>()).add(trigger);
+	}
+
+	/**
+	 * @return The triggers staged while parsing the script, per trigger list of their event.
+	 */
+	public Map<ScrollTriggerList, List<Trigger>> getTriggers() {
+		return Collections.unmodifiableMap(triggers);
+	}
+
+}
@@ -3,8 +3,16 @@ package org.scrolllang.scroll.script;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.language.ScrollTriggerList;
+
+import io.github.syst3ms.skriptparser.lang.Trigger;
 
 /**
  * Represents a parsed and loaded Script.
@@ -13,6 +21,11 @@ public class Script {
 
 	private final Path path;
 
+	@Nullable
+	private volatile ScriptFingerprint fingerprint;
+
+	private volatile Map<ScrollTriggerList, List<Trigger>> triggers = Map.of();
+
 	public Script(Path path) {
 		Validate.isTrue(!Files.isDirectory(path), "The path of the script was a directory. Must be a single file.");
 		this.path = path;
@@ -35,4 +48,34 @@ public class Script {
 		return path;
 	}
 
+	/**
+	 * @return The fingerprint of the input this script was last parsed from. Null if the script has not been parsed yet.
+	 */
+	@Nullable
+	public ScriptFingerprint getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(@Nullable ScriptFingerprint fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * @return The triggers this script added, per trigger list of their event.
+	 */
+	public Map<ScrollTriggerList, List<Trigger>> getTriggers() {
+		return triggers;
+	}
+
+	/**
+	 * Sets the triggers this script owns. Scroll uses these to remove only this script's triggers on unload.
+	 * 
+	 * @param triggers The triggers per trigger list of their event.
+	 */
+	public void setTriggers(Map<ScrollTriggerList, List<Trigger>> triggers) {
+		Map<ScrollTriggerList, List<Trigger>> copy = new HashMap<>();
+		triggers.forEach((list, owned) -> copy.put(list, List.copyOf(owned)));
+		this.triggers = Collections.unmodifiableMap(copy);
+	}
+
 }
@@ -0,0 +1,42 @@
+package org.scrolllang.scroll.script;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies the exact input a {@link Script} was parsed from.
+ * The syntaxes and addons are registered once at startup, so within a run two equal fingerprints
+ * mean that parsing the script again would produce the same result.
+ *
+ * @param content The SHA-256 hash of the script file bytes.
+ */
+public record ScriptFingerprint(String content) {
+
+	/**
+	 * Computes the fingerprint of the script file at the provided path.
+	 *
+	 * @param path The path to the script file.
+	 * @return The fingerprint of the script file.
+	 * @throws IOException if the script file could not be read.
+	 */
+	@NotNull
+	public static ScriptFingerprint of(Path path) throws IOException {
+		return new ScriptFingerprint(hash(Files.readAllBytes(path)));
+	}
+
+	private static String hash(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException exception) {
+			// Every Java platform is required to support SHA-256.
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
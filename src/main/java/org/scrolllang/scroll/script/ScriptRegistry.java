@@ -0,0 +1,150 @@
+package org.scrolllang.scroll.script;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The loaded {@link Script}s, indexed by path, file name and simple name.
+ * <p>
+ * Lookups are safe from any thread and do not scan the loaded scripts.
+ * Name lookups ignore case without allocating, so they are cheap enough for tab completion.
+ */
+public class ScriptRegistry {
+
+	private final NavigableMap<String, Script> simpleNames = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+	private final NavigableMap<String, Script> fileNames = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+	private final Map<Path, Script> paths = new ConcurrentHashMap<>();
+
+	/**
+	 * Sorted by file name. Null when a script was added or removed since the last snapshot.
+	 */
+	@Nullable
+	private volatile Snapshot snapshot;
+
+	private record Snapshot(List<Script> scripts, List<String> fileNames, List<String> simpleNames) {}
+
+	/**
+	 * Adds a script to the registry, replacing any script at the same path.
+	 *
+	 * @param script The {@link Script} to add.
+	 */
+	public synchronized void add(Script script) {
+		Script previous = paths.put(key(script.getPath()), script);
+		if (previous != null && previous != script)
+			removeNames(previous);
+		fileNames.put(script.getFileName(), script);
+		simpleNames.put(script.getSimpleName(), script);
+		snapshot = null;
+	}
+
+	/**
+	 * Removes a script from the registry.
+	 *
+	 * @param script The {@link Script} to remove.
+	 * @return true if the script was registered.
+	 */
+	public synchronized boolean remove(Script script) {
+		if (!paths.remove(key(script.getPath()), script))
+			return false;
+		removeNames(script);
+		snapshot = null;
+		return true;
+	}
+
+	private void removeNames(Script script) {
+		// Only remove the names if they still point to this script, another folder may contain a script with the same name.
+		fileNames.remove(script.getFileName(), script);
+		simpleNames.remove(script.getSimpleName(), script);
+	}
+
+	/**
+	 * @param path The path to the script file.
+	 * @return The script loaded from the path, if any.
+	 */
+	public Optional<Script> get(Path path) {
+		return Optional.ofNullable(paths.get(key(path)));
+	}
+
+	/**
+	 * @param name The file name or simple name of the script. Ignoring case.
+	 * @return The script with the name, if any.
+	 */
+	public Optional<Script> getByName(String name) {
+		Script script = fileNames.get(name);
+		if (script == null)
+			script = simpleNames.get(name);
+		return Optional.ofNullable(script);
+	}
+
+	/**
+	 * @param path The path to the script file.
+	 * @return true if a script is loaded from the path.
+	 */
+	public boolean contains(Path path) {
+		return paths.containsKey(key(path));
+	}
+
+	/**
+	 * @return The amount of loaded scripts.
+	 */
+	public int size() {
+		return paths.size();
+	}
+
+	/**
+	 * @return An immutable snapshot of the loaded scripts, sorted by file name.
+	 */
+	@NotNull
+	public List<Script> getScripts() {
+		return snapshot().scripts();
+	}
+
+	/**
+	 * @return An immutable sorted snapshot of the file names of the loaded scripts.
+	 */
+	@NotNull
+	public List<String> getFileNames() {
+		return snapshot().fileNames();
+	}
+
+	/**
+	 * @return An immutable sorted snapshot of the simple names of the loaded scripts.
+	 */
+	@NotNull
+	public List<String> getSimpleNames() {
+		return snapshot().simpleNames();
+	}
+
+	private Snapshot snapshot() {
+		Snapshot snapshot = this.snapshot;
+		if (snapshot != null)
+			return snapshot;
+		synchronized (this) {
+			if (this.snapshot == null) {
+				List<Script> scripts = paths.values().stream()
+						.sorted(Comparator.comparing(Script::getFileName, String.CASE_INSENSITIVE_ORDER))
+						.toList();
+				this.snapshot = new Snapshot(
+						scripts,
+						scripts.stream().map(Script::getFileName).toList(),
+						scripts.stream().map(Script::getSimpleName).toList()
+				);
+			}
+			return this.snapshot;
+		}
+	}
+
+	private static Path key(Path path) {
+		return path.toAbsolutePath().normalize();
+	}
+
+}
@@ -0,0 +1,92 @@
+package org.scrolllang.scroll.timings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.syst3ms.skriptparser.lang.Trigger;
+
+/**
+ * The recorded calls of a single trigger or statement, see {@link Timings}.
+ * <p>
+ * The counters are striped, so triggers running on multiple threads at once do not contend on them.
+ */
+public class Timing {
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	private final LongAdder allocated = new LongAdder();
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder nanos = new LongAdder();
+	private final Trigger trigger;
+	private final String name;
+
+	Timing(String name, Trigger trigger) {
+		this.trigger = trigger;
+		this.name = name;
+	}
+
+	void record(long nanos, long allocated) {
+		this.nanos.add(nanos);
+		this.max.accumulate(nanos);
+		if (allocated > 0)
+			this.allocated.add(allocated);
+		calls.increment();
+	}
+
+	/**
+	 * @return The description of the trigger or statement, as it was when it was first called.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The trigger that was timed, or the trigger the timed statement belongs to.
+	 */
+	public Trigger getTrigger() {
+		return trigger;
+	}
+
+	/**
+	 * @return The amount of times the trigger or statement ran.
+	 */
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The total time spent running the trigger or statement.
+	 */
+	public long getTotalTime(TimeUnit unit) {
+		return unit.convert(nanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The longest single run of the trigger or statement.
+	 */
+	public long getMaxTime(TimeUnit unit) {
+		return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The average time a run of the trigger or statement took.
+	 */
+	public long getAverageTime(TimeUnit unit) {
+		long calls = getCalls();
+		return calls == 0 ? 0 : unit.convert(nanos.sum() / calls, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * An estimate, as it is the memory the running thread allocated in the meantime.
+	 * Always 0 if the JVM does not support measuring allocations per thread.
+	 * 
+	 * @return The total bytes allocated while running the trigger or statement.
+	 */
+	public long getAllocatedBytes() {
+		return allocated.sum();
+	}
+
+}
@@ -0,0 +1,150 @@
+package org.scrolllang.scroll.timings;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.scrolllang.scroll.language.ScrollEvent;
+
+import io.github.syst3ms.skriptparser.lang.Statement;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+
+/**
+ * Records how long triggers and their statements take to run, toggled with /sc timings.
+ * <p>
+ * While disabled, {@link ScrollEvent#runTriggers(Trigger[], TriggerContext)} only checks {@link #isEnabled()}
+ * and runs the triggers as usual. While enabled, triggers are walked statement by statement so each statement is timed on its own.
+ * The time of a section only includes evaluating its header, the statements inside it are timed separately.
+ */
+public final class Timings {
+
+	private static final Map<Statement, Timing> STATEMENTS = new ConcurrentHashMap<>();
+	private static final Map<Trigger, Timing> TRIGGERS = new ConcurrentHashMap<>();
+
+	@Nullable
+	private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+	private static volatile boolean enabled;
+	private static volatile long since = System.nanoTime();
+
+	private Timings() {}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean threads() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads))
+			return null;
+		if (!threads.isThreadAllocatedMemorySupported())
+			return null;
+		if (!threads.isThreadAllocatedMemoryEnabled())
+			threads.setThreadAllocatedMemoryEnabled(true);
+		return threads;
+	}
+
+	/**
+	 * @return true if triggers are being timed.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts or stops timing triggers. The recorded timings are kept until {@link #reset()}.
+	 * 
+	 * @param enabled true to start timing triggers.
+	 */
+	public static void setEnabled(boolean enabled) {
+		if (enabled && !Timings.enabled && TRIGGERS.isEmpty())
+			since = System.nanoTime();
+		Timings.enabled = enabled;
+	}
+
+	/**
+	 * Clears the recorded timings. This also releases the triggers of unloaded scripts.
+	 */
+	public static void reset() {
+		TRIGGERS.clear();
+		STATEMENTS.clear();
+		since = System.nanoTime();
+	}
+
+	/**
+	 * @param unit The time unit to return.
+	 * @return The time since the timings were last reset.
+	 */
+	public static long getRecordingTime(TimeUnit unit) {
+		return unit.convert(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return The timings of the triggers, the slowest in total first.
+	 */
+	public static List<Timing> getTriggerTimings() {
+		return sorted(TRIGGERS.values());
+	}
+
+	/**
+	 * @return The timings of the statements, the slowest in total first.
+	 */
+	public static List<Timing> getStatementTimings() {
+		return sorted(STATEMENTS.values());
+	}
+
+	private static List<Timing> sorted(Collection<Timing> timings) {
+		return timings.stream()
+				.sorted(Comparator.comparingLong((Timing timing) -> timing.getTotalTime(TimeUnit.NANOSECONDS)).reversed())
+				.toList();
+	}
+
+	/**
+	 * Runs the trigger the same way {@link Statement#runAll(Statement, TriggerContext)} does, timing every statement.
+	 * 
+	 * @param trigger The {@link Trigger} to run.
+	 * @param context The {@link TriggerContext} to run the trigger with.
+	 */
+	public static void run(Trigger trigger, TriggerContext context) {
+		run(trigger, trigger, context);
+	}
+
+	/**
+	 * Runs the trigger from a statement, timing every statement. Used to continue a trigger that was paused.
+	 * 
+	 * @param trigger The {@link Trigger} the statement belongs to.
+	 * @param start The first {@link Statement} to run.
+	 * @param context The {@link TriggerContext} to run the trigger with.
+	 */
+	public static void run(Trigger trigger, Statement start, TriggerContext context) {
+		Timing timing = TRIGGERS.computeIfAbsent(trigger, key -> new Timing(trigger.getEvent().toString(context, false), trigger));
+		long started = System.nanoTime();
+		long allocated = allocatedBytes();
+		try {
+			Statement item = start;
+			while (item != null) {
+				long statementStart = System.nanoTime();
+				long statementAllocated = allocatedBytes();
+				Optional<? extends Statement> next = item.walk(context);
+				if (item != trigger) {
+					Statement statement = item;
+					STATEMENTS.computeIfAbsent(statement, key -> new Timing(statement.toString(context, false), trigger))
+							.record(System.nanoTime() - statementStart, allocatedBytes() - statementAllocated);
+				}
+				item = next.orElse(null);
+			}
+		} finally {
+			timing.record(System.nanoTime() - started, allocatedBytes() - allocated);
+		}
+	}
+
+	private static long allocatedBytes() {
+		if (THREADS == null)
+			return 0;
+		return THREADS.getCurrentThreadAllocatedBytes();
+	}
+
+}
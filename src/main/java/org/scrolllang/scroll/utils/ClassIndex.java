@@ -0,0 +1,79 @@
+package org.scrolllang.scroll.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.scrolllang.scroll.Scroll;
+
+/**
+ * Reads the class indexes written by the generateClassIndex Gradle task.
+ * An index lists the classes that need to be statically initialized to register their syntaxes, one name per line.
+ * Loading the listed classes replaces scanning the classpath at startup.
+ */
+public class ClassIndex {
+
+	/**
+	 * The index of the common classes, including the syntaxes of skript-parser.
+	 */
+	public static final String RESOURCE = "scroll/classes.index";
+
+	/**
+	 * The index of the classes that only exist on the client.
+	 */
+	public static final String CLIENT_RESOURCE = "scroll/classes-client.index";
+
+	/**
+	 * Reads every index with the resource name on the class path, the indexes of addons included.
+	 *
+	 * @param loader The class loader to read the resources from.
+	 * @param resource The resource name of the index.
+	 * @param packages Only the classes in these packages or their sub packages are returned.
+	 * @return The class names in the order they are listed. Empty if no index exists.
+	 */
+	public static List<String> read(ClassLoader loader, String resource, String... packages) {
+		Set<String> names = new LinkedHashSet<>();
+		try {
+			Enumeration<URL> urls = loader.getResources(resource);
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					reader.lines()
+							.map(String::trim)
+							.filter(line -> !line.isEmpty() && !line.startsWith("#"))
+							.filter(name -> packages.length == 0 || Arrays.stream(packages).anyMatch(prefix -> name.startsWith(prefix + ".")))
+							.forEach(names::add);
+				}
+			}
+		} catch (IOException exception) {
+			Scroll.LOGGER.warn(Scroll.languageFormat("files.read", resource));
+		}
+		return new ArrayList<>(names);
+	}
+
+	/**
+	 * Statically initializes the classes.
+	 *
+	 * @param loader The class loader to load the classes with.
+	 * @param names The fully qualified names of the classes.
+	 */
+	public static void initialize(ClassLoader loader, Collection<String> names) {
+		for (String name : names) {
+			try {
+				Class.forName(name, true, loader);
+			} catch (ClassNotFoundException exception) {
+				Scroll.getInstance().printException(exception, Scroll.languageFormat("classes.index.missing", name));
+			}
+		}
+	}
+
+}
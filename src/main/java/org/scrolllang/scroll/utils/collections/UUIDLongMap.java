@@ -0,0 +1,150 @@
+package org.scrolllang.scroll.utils.collections;
+
+import java.util.UUID;
+
+/**
+ * A map from {@link UUID} to long without boxing.
+ * <p>
+ * The keys are stored as their two halves in parallel long arrays, with open addressing and linear probing.
+ * Lookups do not allocate, which makes the map cheap enough to consult on every interaction of a player.
+ * Not thread safe.
+ */
+public class UUIDLongMap {
+
+	private static final float LOAD_FACTOR = 0.5F;
+
+	private long[] mostBits, leastBits, values;
+	private boolean[] used;
+	private int size;
+
+	public UUIDLongMap() {
+		this(16);
+	}
+
+	/**
+	 * @param capacity The amount of entries the map can hold before it grows.
+	 */
+	public UUIDLongMap(int capacity) {
+		allocate(Integer.highestOneBit(Math.max(2, (int) (capacity / LOAD_FACTOR)) - 1) << 1);
+	}
+
+	private void allocate(int length) {
+		mostBits = new long[length];
+		leastBits = new long[length];
+		values = new long[length];
+		used = new boolean[length];
+	}
+
+	private int mask() {
+		return used.length - 1;
+	}
+
+	private int index(long most, long least) {
+		long hash = most ^ least;
+		hash ^= hash >>> 32;
+		hash *= 0x9E3779B97F4A7C15L;
+		return (int) (hash >>> 32) & mask();
+	}
+
+	private int find(long most, long least) {
+		int index = index(most, least);
+		while (used[index]) {
+			if (mostBits[index] == most && leastBits[index] == least)
+				return index;
+			index = (index + 1) & mask();
+		}
+		return -1;
+	}
+
+	/**
+	 * @param uuid The key.
+	 * @param absent The value to return if the key is not in the map.
+	 * @return The value of the key, or the absent value.
+	 */
+	public long get(UUID uuid, long absent) {
+		int index = find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		return index < 0 ? absent : values[index];
+	}
+
+	/**
+	 * @param uuid The key.
+	 * @param value The value to set for the key.
+	 */
+	public void put(UUID uuid, long value) {
+		long most = uuid.getMostSignificantBits();
+		long least = uuid.getLeastSignificantBits();
+		int index = index(most, least);
+		while (used[index]) {
+			if (mostBits[index] == most && leastBits[index] == least) {
+				values[index] = value;
+				return;
+			}
+			index = (index + 1) & mask();
+		}
+		used[index] = true;
+		mostBits[index] = most;
+		leastBits[index] = least;
+		values[index] = value;
+		if (++size > used.length * LOAD_FACTOR)
+			resize(used.length << 1);
+	}
+
+	/**
+	 * @param uuid The key to remove.
+	 * @return true if the key was in the map.
+	 */
+	public boolean remove(UUID uuid) {
+		int index = find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		if (index < 0)
+			return false;
+		delete(index);
+		return true;
+	}
+
+	/**
+	 * Removes the entry at the index, shifting back the entries after it so that probing still finds them.
+	 */
+	private void delete(int index) {
+		int mask = mask();
+		int gap = index;
+		int next = (gap + 1) & mask;
+		while (used[next]) {
+			int home = index(mostBits[next], leastBits[next]);
+			// Move the entry into the gap if its home slot is not between the gap and its current slot.
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				mostBits[gap] = mostBits[next];
+				leastBits[gap] = leastBits[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		used[gap] = false;
+		size--;
+	}
+
+	private void resize(int length) {
+		long[] mostBits = this.mostBits, leastBits = this.leastBits, values = this.values;
+		boolean[] used = this.used;
+		allocate(length);
+		for (int index = 0; index < used.length; index++) {
+			if (!used[index])
+				continue;
+			int slot = index(mostBits[index], leastBits[index]);
+			while (this.used[slot])
+				slot = (slot + 1) & mask();
+			this.used[slot] = true;
+			this.mostBits[slot] = mostBits[index];
+			this.leastBits[slot] = leastBits[index];
+			this.values[slot] = values[index];
+		}
+	}
+
+	/**
+	 * @return The amount of entries in the map.
+	 */
+	public int size() {
+		return size;
+	}
+
+}
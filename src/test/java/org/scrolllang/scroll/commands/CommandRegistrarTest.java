@@ -0,0 +1,93 @@
+package org.scrolllang.scroll.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.scrolllang.scroll.commands.arguments.CommandArgumentType;
+import org.scrolllang.scroll.commands.arguments.CommandParameter;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+
+import io.github.syst3ms.skriptparser.types.PatternType;
+import io.github.syst3ms.skriptparser.types.Type;
+import net.minecraft.server.command.ServerCommandSource;
+
+class CommandRegistrarTest {
+
+	private static final PatternType<String> STRING = new PatternType<>(new Type<>(String.class, "string@s"), true);
+	private static final com.mojang.brigadier.Command<ServerCommandSource> EXECUTE = context -> 1;
+
+	private static CommandParameter<?> parameter(String identifier, boolean optional) {
+		// String arguments do not need the registries.
+		return new CommandParameter<>(STRING, CommandArgumentType.STRING, identifier, optional) {};
+	}
+
+	private static LiteralCommandNode<ServerCommandSource> build(CommandParameter<?>... parameters) {
+		return CommandRegistrar.build("test", List.of(parameters), null, EXECUTE).build();
+	}
+
+	private static CommandNode<ServerCommandSource> child(CommandNode<ServerCommandSource> node, String name) {
+		CommandNode<ServerCommandSource> child = node.getChild(name);
+		assertNotNull(child);
+		return child;
+	}
+
+	private static StringArgumentType.StringType stringType(CommandNode<ServerCommandSource> node) {
+		return ((StringArgumentType) ((ArgumentCommandNode<?, ?>) node).getType()).getType();
+	}
+
+	@Test
+	void executesOnceAllRequiredArgumentsAreGiven() {
+		LiteralCommandNode<ServerCommandSource> literal = build(parameter("a", false), parameter("b", false), parameter("c", true));
+		CommandNode<ServerCommandSource> a = child(literal, "a");
+		CommandNode<ServerCommandSource> b = child(a, "b");
+		CommandNode<ServerCommandSource> c = child(b, "c");
+		assertNull(literal.getCommand());
+		assertNull(a.getCommand());
+		assertEquals(EXECUTE, b.getCommand());
+		assertEquals(EXECUTE, c.getCommand());
+		assertEquals(0, c.getChildren().size());
+	}
+
+	@Test
+	void executesWithoutArgumentsIfAllAreOptional() {
+		LiteralCommandNode<ServerCommandSource> literal = build(parameter("a", true), parameter("b", true));
+		assertEquals(EXECUTE, literal.getCommand());
+		assertEquals(EXECUTE, child(literal, "a").getCommand());
+		assertEquals(EXECUTE, child(child(literal, "a"), "b").getCommand());
+	}
+
+	@Test
+	void requiresArgumentsBeforeARequiredOne() {
+		// An optional parameter before a required one cannot be skipped, Brigadier arguments are positional.
+		LiteralCommandNode<ServerCommandSource> literal = build(parameter("a", true), parameter("b", false));
+		assertNull(literal.getCommand());
+		assertNull(child(literal, "a").getCommand());
+		assertEquals(EXECUTE, child(child(literal, "a"), "b").getCommand());
+	}
+
+	@Test
+	void executesWithoutParameters() {
+		LiteralCommandNode<ServerCommandSource> literal = build();
+		assertEquals("test", literal.getLiteral());
+		assertEquals(EXECUTE, literal.getCommand());
+		assertEquals(0, literal.getChildren().size());
+	}
+
+	@Test
+	void letsTheLastArgumentConsumeTheRest() {
+		LiteralCommandNode<ServerCommandSource> literal = build(parameter("a", false), parameter("b", false));
+		CommandNode<ServerCommandSource> a = child(literal, "a");
+		CommandNode<ServerCommandSource> b = child(a, "b");
+		assertEquals(StringArgumentType.StringType.SINGLE_WORD, stringType(a));
+		assertEquals(StringArgumentType.StringType.GREEDY_PHRASE, stringType(b));
+	}
+
+}
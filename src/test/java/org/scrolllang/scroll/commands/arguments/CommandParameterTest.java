@@ -0,0 +1,48 @@
+package org.scrolllang.scroll.commands.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.syst3ms.skriptparser.types.PatternType;
+import io.github.syst3ms.skriptparser.types.Type;
+
+class CommandParameterTest {
+
+	private static final PatternType<String> STRING = new PatternType<>(new Type<>(String.class, "string@s"), true);
+	private static final PatternType<BigInteger> INTEGER = new PatternType<>(new Type<>(BigInteger.class, "integer@s"), true);
+
+	// Like "/give <target:string> <amount:integer> [reason:string] [times:integer]"
+	private static final List<CommandParameter<?>> PARAMETERS = List.of(
+			new CommandParameter<>(STRING, CommandArgumentType.STRING, "target", false),
+			new CommandParameter<>(INTEGER, CommandArgumentType.INTEGER, "amount", false),
+			new CommandParameter<>(STRING, CommandArgumentType.STRING, "reason", true),
+			new CommandParameter<>(INTEGER, CommandArgumentType.INTEGER, "times", true)
+	);
+
+	@Test
+	void findsTheNthParameterOfAType() {
+		assertEquals(0, CommandParameter.indexOf(PARAMETERS, String.class, 1));
+		assertEquals(2, CommandParameter.indexOf(PARAMETERS, String.class, 2));
+		assertEquals(1, CommandParameter.indexOf(PARAMETERS, BigInteger.class, 1));
+		assertEquals(3, CommandParameter.indexOf(PARAMETERS, BigInteger.class, 2));
+	}
+
+	@Test
+	void findsNoParameterBeyondTheParametersOfAType() {
+		assertEquals(-1, CommandParameter.indexOf(PARAMETERS, String.class, 3));
+		assertEquals(-1, CommandParameter.indexOf(PARAMETERS, Boolean.class, 1));
+	}
+
+	@Test
+	void findsParametersByIdentifierIgnoringCase() {
+		assertEquals(0, CommandParameter.indexOf(PARAMETERS, "target"));
+		assertEquals(2, CommandParameter.indexOf(PARAMETERS, "REASON"));
+		assertEquals(3, CommandParameter.indexOf(PARAMETERS, "Times"));
+		assertEquals(-1, CommandParameter.indexOf(PARAMETERS, "player"));
+	}
+
+}
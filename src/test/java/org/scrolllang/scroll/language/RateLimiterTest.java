@@ -0,0 +1,75 @@
+package org.scrolllang.scroll.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+	private static final UUID ALICE = new UUID(0, 1);
+	private static final UUID BOB = new UUID(0, 2);
+
+	@Test
+	void allowsOneRunPerWindow() {
+		RateLimiter limiter = new RateLimiter(5, false);
+		assertTrue(limiter.tryAcquire(null, 100));
+		for (long tick = 100; tick < 105; tick++)
+			assertFalse(limiter.tryAcquire(null, tick));
+		assertTrue(limiter.tryAcquire(null, 105));
+		assertFalse(limiter.tryAcquire(null, 109));
+		assertTrue(limiter.tryAcquire(null, 110));
+	}
+
+	@Test
+	void startsTheWindowAtTheLastAllowedRun() {
+		RateLimiter limiter = new RateLimiter(5, false);
+		assertTrue(limiter.tryAcquire(null, 100));
+		assertFalse(limiter.tryAcquire(null, 103));
+		// Refused runs do not extend the window.
+		assertTrue(limiter.tryAcquire(null, 105));
+	}
+
+	@Test
+	void limitsEveryPlayerOnTheirOwn() {
+		RateLimiter limiter = new RateLimiter(20, true);
+		assertTrue(limiter.tryAcquire(ALICE, 0));
+		assertTrue(limiter.tryAcquire(BOB, 1));
+		assertFalse(limiter.tryAcquire(ALICE, 19));
+		assertTrue(limiter.tryAcquire(ALICE, 20));
+		assertFalse(limiter.tryAcquire(BOB, 20));
+		// Contexts without a player share a limit, apart from the players.
+		assertTrue(limiter.tryAcquire(null, 20));
+		assertFalse(limiter.tryAcquire(null, 21));
+	}
+
+	@Test
+	void forgetsPlayersThatLeave() {
+		RateLimiter limiter = new RateLimiter(20, true);
+		assertTrue(limiter.tryAcquire(ALICE, 0));
+		RateLimiter.forgetPlayer(ALICE);
+		assertTrue(limiter.tryAcquire(ALICE, 1));
+	}
+
+	@Test
+	void resetsWhenTheTicksGoBack() {
+		// The tick count starts over when the server restarts.
+		RateLimiter limiter = new RateLimiter(20, false);
+		assertTrue(limiter.tryAcquire(null, 1000));
+		assertTrue(limiter.tryAcquire(null, 3));
+		assertFalse(limiter.tryAcquire(null, 4));
+	}
+
+	@Test
+	void limitsToOnceATickAtLeast() {
+		RateLimiter limiter = new RateLimiter(0, false);
+		assertEquals(1, limiter.getTicks());
+		assertTrue(limiter.tryAcquire(null, 7));
+		assertFalse(limiter.tryAcquire(null, 7));
+		assertTrue(limiter.tryAcquire(null, 8));
+	}
+
+}
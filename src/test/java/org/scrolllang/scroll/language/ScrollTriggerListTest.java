@@ -0,0 +1,180 @@
+package org.scrolllang.scroll.language;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import io.github.syst3ms.skriptparser.lang.Expression;
+import io.github.syst3ms.skriptparser.lang.Trigger;
+import io.github.syst3ms.skriptparser.lang.TriggerContext;
+import io.github.syst3ms.skriptparser.parsing.ParseContext;
+
+class ScrollTriggerListTest {
+
+	private static final class TestEvent extends ScrollEvent {
+
+		private final Priority priority;
+		private final Collection<?> filter;
+
+		TestEvent(Priority priority, Object... filter) {
+			this.priority = priority;
+			this.filter = List.of(filter);
+		}
+
+		@Override
+		public Priority getPriority() {
+			return priority;
+		}
+
+		@Override
+		public Collection<?> getFilterKeys() {
+			return filter;
+		}
+
+		@Override
+		public @NotNull ScrollTriggerList getTriggers() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean init(Expression<?>[] expressions, int matchedPattern, ParseContext parseContext) {
+			return true;
+		}
+
+		@Override
+		public boolean check(TriggerContext context) {
+			return true;
+		}
+
+		@Override
+		public String toString(TriggerContext context, boolean debug) {
+			return "test event";
+		}
+
+	}
+
+	private static Trigger trigger(ScrollEvent.Priority priority, Object... filter) {
+		return new Trigger(new TestEvent(priority, filter));
+	}
+
+	private static Trigger trigger(Object... filter) {
+		return trigger(ScrollEvent.Priority.NORMAL, filter);
+	}
+
+	@Test
+	void ordersTriggersByPriorityThenLoadOrder() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger first = trigger();
+		Trigger highest = trigger(ScrollEvent.Priority.HIGHEST);
+		Trigger second = trigger();
+		Trigger lowest = trigger(ScrollEvent.Priority.LOWEST);
+		list.addTriggers(first, highest, second, lowest);
+		assertArrayEquals(new Trigger[] {lowest, first, second, highest}, list.getSnapshot());
+	}
+
+	@Test
+	void replacesTriggersInOneSnapshot() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger kept = trigger();
+		Trigger old = trigger();
+		list.addTriggers(kept, old);
+		Trigger[] before = list.getSnapshot();
+		Trigger replacement = trigger();
+		list.replace(List.of(old), List.of(replacement));
+		assertArrayEquals(new Trigger[] {kept, replacement}, list.getSnapshot());
+		// Published snapshots are never modified, a running dispatch keeps iterating the old triggers.
+		assertArrayEquals(new Trigger[] {kept, old}, before);
+	}
+
+	@Test
+	void reportsEveryChangeOnce() {
+		List<Collection<Trigger>> removed = new ArrayList<>();
+		List<Collection<Trigger>> added = new ArrayList<>();
+		ScrollTriggerList list = new ScrollTriggerList() {
+			@Override
+			protected void changed(Collection<Trigger> removedTriggers, Collection<Trigger> addedTriggers) {
+				removed.add(List.copyOf(removedTriggers));
+				added.add(List.copyOf(addedTriggers));
+			}
+		};
+		Trigger old = trigger();
+		Trigger replacement = trigger();
+		list.addTriggers(old);
+		list.replace(List.of(old), List.of(replacement));
+		list.clear();
+		assertEquals(List.of(List.of(), List.of(old), List.of(replacement)), removed);
+		assertEquals(List.of(List.of(old), List.of(replacement), List.of()), added);
+		assertTrue(list.isEmpty());
+		assertEquals(0, list.getSnapshot().length);
+	}
+
+	@Test
+	void runsTheActivatorOnceTheFirstTriggerIsAdded() {
+		AtomicInteger activations = new AtomicInteger();
+		ScrollTriggerList list = new ScrollTriggerList(activations::incrementAndGet);
+		list.replace(List.of(), List.of());
+		assertEquals(0, activations.get());
+		Trigger trigger = trigger();
+		list.addTriggers(trigger);
+		list.removeTriggers(List.of(trigger));
+		list.addTriggers(trigger());
+		assertEquals(1, activations.get());
+	}
+
+	@Test
+	void removesTriggersByIdentity() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger trigger = trigger();
+		list.addTriggers(trigger);
+		list.removeTriggers(List.of(trigger()));
+		assertArrayEquals(new Trigger[] {trigger}, list.getSnapshot());
+	}
+
+	@Test
+	void mergesFilteredAndUnfilteredTriggersInOrder() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger stone = trigger("stone");
+		Trigger any = trigger();
+		Trigger stoneOrDirt = trigger(ScrollEvent.Priority.LOW, "stone", "dirt");
+		Trigger dirt = trigger(ScrollEvent.Priority.HIGH, "dirt");
+		list.addTriggers(stone, any, stoneOrDirt, dirt);
+		assertArrayEquals(new Trigger[] {stoneOrDirt, stone, any}, list.getSnapshot("stone"));
+		assertArrayEquals(new Trigger[] {stoneOrDirt, any, dirt}, list.getSnapshot("dirt"));
+		assertArrayEquals(new Trigger[] {stoneOrDirt, stone, any, dirt}, list.getSnapshot());
+	}
+
+	@Test
+	void onlyDispatchesUnfilteredTriggersForOtherKeys() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger any = trigger();
+		list.addTriggers(trigger("stone"), any);
+		assertArrayEquals(new Trigger[] {any}, list.getSnapshot("grass"));
+		// Keys without filtered triggers share the unfiltered array, nothing is allocated per key.
+		assertSame(list.getSnapshot("grass"), list.getSnapshot("sand"));
+	}
+
+	@Test
+	void reindexesTheFiltersOnChanges() {
+		ScrollTriggerList list = new ScrollTriggerList();
+		Trigger stone = trigger("stone");
+		list.addTriggers(stone);
+		Trigger[] before = list.getSnapshot("stone");
+		Trigger dirt = trigger("dirt");
+		list.replace(List.of(stone), List.of(dirt));
+		assertEquals(0, list.getSnapshot("stone").length);
+		assertArrayEquals(new Trigger[] {dirt}, list.getSnapshot("dirt"));
+		assertArrayEquals(new Trigger[] {stone}, before);
+		list.clear();
+		assertEquals(0, list.getSnapshot("dirt").length);
+	}
+
+}
@@ -0,0 +1,110 @@
+package org.scrolllang.scroll.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TickSchedulerTest {
+
+	private final TickScheduler scheduler = new TickScheduler(0);
+
+	private void tick(long ticks) {
+		for (long i = 0; i < ticks; i++)
+			scheduler.tick();
+	}
+
+	@Test
+	void runsOnTheTickOfItsDelay() {
+		// Around the turns of every wheel, the tasks of the higher wheels have to cascade down to run on time.
+		long[] delays = {1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262143, 262144, 262145, 300000};
+		List<Long> ran = new ArrayList<>();
+		for (long delay : delays)
+			scheduler.schedule(delay, () -> ran.add(scheduler.getTick()));
+		tick(delays[delays.length - 1]);
+		List<Long> expected = new ArrayList<>();
+		for (long delay : delays)
+			expected.add(delay);
+		assertEquals(expected, ran);
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	@Test
+	void runsTasksBeyondTheWheelsFromTheOverflow() {
+		long delay = (1L << 24) + 70;
+		List<Long> ran = new ArrayList<>();
+		scheduler.schedule(delay, () -> ran.add(scheduler.getTick()));
+		tick(delay - 1);
+		assertTrue(ran.isEmpty());
+		scheduler.tick();
+		assertEquals(List.of(delay), ran);
+	}
+
+	@Test
+	void runsTasksWithoutDelayOnTheNextTick() {
+		List<Long> ran = new ArrayList<>();
+		scheduler.schedule(0, () -> ran.add(scheduler.getTick()));
+		scheduler.schedule(-5, () -> ran.add(scheduler.getTick()));
+		scheduler.tick();
+		assertEquals(List.of(1L, 1L), ran);
+	}
+
+	@Test
+	void runsTasksScheduledByTasksOnALaterTick() {
+		List<Long> ran = new ArrayList<>();
+		scheduler.schedule(1, () -> scheduler.schedule(1, () -> ran.add(scheduler.getTick())));
+		tick(2);
+		assertEquals(List.of(2L), ran);
+	}
+
+	@Test
+	void repeatsPeriodicTasksUntilCancelled() {
+		List<Long> ran = new ArrayList<>();
+		ScheduledTask task = scheduler.scheduleAtFixedRate(5, 70, () -> ran.add(scheduler.getTick()));
+		tick(215);
+		assertEquals(List.of(5L, 75L, 145L, 215L), ran);
+		task.cancel();
+		tick(200);
+		assertEquals(4, ran.size());
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	@Test
+	void neverRunsCancelledTasks() {
+		List<Long> ran = new ArrayList<>();
+		ScheduledTask near = scheduler.schedule(3, () -> ran.add(scheduler.getTick()));
+		ScheduledTask far = scheduler.schedule(5000, () -> ran.add(scheduler.getTick()));
+		scheduler.tick();
+		near.cancel();
+		far.cancel();
+		tick(5000);
+		assertTrue(ran.isEmpty());
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	@Test
+	void clearCancelsAllTasks() {
+		List<Long> ran = new ArrayList<>();
+		ScheduledTask periodic = scheduler.scheduleAtFixedRate(1, 1, () -> ran.add(scheduler.getTick()));
+		ScheduledTask waiting = scheduler.schedule(100, () -> ran.add(scheduler.getTick()));
+		scheduler.tick();
+		ScheduledTask incoming = scheduler.schedule(1, () -> ran.add(scheduler.getTick()));
+		scheduler.clear();
+		tick(200);
+		assertEquals(List.of(1L), ran);
+		assertTrue(periodic.isCancelled());
+		assertTrue(waiting.isCancelled());
+		assertTrue(incoming.isCancelled());
+		assertEquals(0, scheduler.getScheduledTasks());
+	}
+
+	@Test
+	void rejectsPeriodsBelowOneTick() {
+		assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleAtFixedRate(1, 0, () -> {}));
+	}
+
+}
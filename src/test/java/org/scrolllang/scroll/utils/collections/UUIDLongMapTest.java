@@ -0,0 +1,92 @@
+package org.scrolllang.scroll.utils.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UUIDLongMapTest {
+
+	private static List<UUID> uuids(int amount) {
+		Random random = new Random(42);
+		List<UUID> uuids = new ArrayList<>(amount);
+		for (int i = 0; i < amount; i++)
+			uuids.add(new UUID(random.nextLong(), random.nextLong()));
+		return uuids;
+	}
+
+	@Test
+	void returnsTheAbsentValueForMissingKeys() {
+		UUIDLongMap map = new UUIDLongMap();
+		assertEquals(-1, map.get(UUID.randomUUID(), -1));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	void replacesTheValueOfAnExistingKey() {
+		UUIDLongMap map = new UUIDLongMap();
+		UUID uuid = UUID.randomUUID();
+		map.put(uuid, 1);
+		map.put(uuid, 2);
+		assertEquals(2, map.get(uuid, -1));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	void keepsAllEntriesWhileGrowing() {
+		UUIDLongMap map = new UUIDLongMap(2);
+		List<UUID> uuids = uuids(10_000);
+		for (int i = 0; i < uuids.size(); i++)
+			map.put(uuids.get(i), i);
+		assertEquals(uuids.size(), map.size());
+		for (int i = 0; i < uuids.size(); i++)
+			assertEquals(i, map.get(uuids.get(i), -1));
+	}
+
+	@Test
+	void findsProbedEntriesAfterRemovingEntriesBeforeThem() {
+		// At the load limit many keys probe past others, removing must shift them back into reach of their index.
+		UUIDLongMap map = new UUIDLongMap(64);
+		List<UUID> uuids = uuids(64);
+		for (int i = 0; i < uuids.size(); i++)
+			map.put(uuids.get(i), i);
+		for (int i = 0; i < uuids.size(); i += 2)
+			assertTrue(map.remove(uuids.get(i)));
+		assertEquals(32, map.size());
+		for (int i = 0; i < uuids.size(); i++)
+			assertEquals(i % 2 == 0 ? -1 : i, map.get(uuids.get(i), -1));
+		assertFalse(map.remove(uuids.get(0)));
+	}
+
+	@Test
+	void reusesTheSlotsOfRemovedEntries() {
+		UUIDLongMap map = new UUIDLongMap(4);
+		List<UUID> uuids = uuids(1000);
+		for (int i = 0; i < uuids.size(); i++) {
+			map.put(uuids.get(i), i);
+			if (i > 0)
+				map.remove(uuids.get(i - 1));
+		}
+		assertEquals(1, map.size());
+		assertEquals(999, map.get(uuids.get(999), -1));
+	}
+
+	@Test
+	void distinguishesKeysWithTheSameHalves() {
+		UUIDLongMap map = new UUIDLongMap();
+		// Both keys have the same hash, as it combines the halves.
+		map.put(new UUID(1, 2), 12);
+		map.put(new UUID(2, 1), 21);
+		assertEquals(12, map.get(new UUID(1, 2), -1));
+		assertEquals(21, map.get(new UUID(2, 1), -1));
+		map.remove(new UUID(1, 2));
+		assertEquals(21, map.get(new UUID(2, 1), -1));
+	}
+
+}